@@ -0,0 +1,242 @@
+package niv.burning.api;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.jetbrains.annotations.Nullable;
+
+import net.fabricmc.fabric.api.transfer.v1.storage.Storage;
+import net.fabricmc.fabric.api.transfer.v1.storage.StoragePreconditions;
+import net.fabricmc.fabric.api.transfer.v1.storage.StorageUtil;
+import net.fabricmc.fabric.api.transfer.v1.storage.base.SingleSlotStorage;
+import net.fabricmc.fabric.api.transfer.v1.transaction.Transaction;
+import net.fabricmc.fabric.api.transfer.v1.transaction.TransactionContext;
+import niv.burning.api.base.SimpleBurningStorage;
+import niv.burning.impl.AbstractFurnaceStorage;
+
+/**
+ * Moves burning from one source into many targets at once, splitting it
+ * according to a {@link Strategy}.
+ *
+ * <p>
+ * The free capacity of each target is computed once per call, without opening
+ * nested transactions for the built-in burning storages that are not
+ * {@link BurningRateLimited rate limited}, and by simulating an insertion for
+ * any other target. Targets that are full, or that do not support insertion,
+ * are skipped. Whatever a target refuses of its share is split again among the
+ * others. Everything is inserted and extracted within a single transaction.
+ *
+ * <p>
+ * Instances keep the round-robin cursor and some scratch arrays between calls,
+ * hence they are not thread safe; keep one per source.
+ *
+ * <p>
+ * Example usage:
+ *
+ * <pre>{@code
+ * // Create once
+ * BurningDistributor distributor = new BurningDistributor(BurningDistributor.Strategy.ROUND_ROBIN);
+ *
+ * // Every tick
+ * distributor.distribute(heaterStorage, furnaceStorages, 200, null);
+ * }</pre>
+ *
+ * @since 3.0
+ */
+public final class BurningDistributor {
+
+    /**
+     * How burning is split among targets.
+     */
+    public enum Strategy {
+        /**
+         * Equal shares to each target that is not full, the remainder going to
+         * targets in turn across calls.
+         */
+        ROUND_ROBIN,
+        /**
+         * Shares proportional to the free capacity of each target.
+         */
+        PROPORTIONAL,
+        /**
+         * Targets are filled one at a time, in list order.
+         */
+        FILL_FIRST,
+    }
+
+    private final Strategy strategy;
+
+    private int cursor = 0;
+
+    private long[] free = new long[0];
+
+    private long[] shares = new long[0];
+
+    /**
+     * Class constructor.
+     *
+     * @param strategy a non-null strategy
+     */
+    public BurningDistributor(Strategy strategy) {
+        this.strategy = requireNonNull(strategy);
+    }
+
+    /**
+     * Return the strategy of this distributor.
+     *
+     * @return a non-null strategy
+     */
+    public Strategy getStrategy() {
+        return this.strategy;
+    }
+
+    /**
+     * Moves up to {@code maxAmount} burning of the resource stored in
+     * {@code source} into {@code targets}.
+     *
+     * @param source      a non-null burning storage
+     * @param targets     non-null burning storages, {@code source} excluded
+     * @param maxAmount   the maximum amount of burning to move
+     * @param transaction the transaction to use, null to open and commit a new
+     *                    one
+     * @return the amount of burning moved
+     */
+    public long distribute(Storage<FuelVariant> source, List<? extends Storage<FuelVariant>> targets,
+            long maxAmount, @Nullable TransactionContext transaction) {
+        StoragePreconditions.notNegative(maxAmount);
+        var size = targets.size();
+        if (maxAmount == 0L || size == 0 || !source.supportsExtraction())
+            return 0L;
+
+        try (var outer = Transaction.openNested(transaction)) {
+            var resource = StorageUtil.findStoredResource(source);
+            if (resource == null || resource.isBlank())
+                return 0L;
+
+            if (this.free.length < size) {
+                this.free = new long[size];
+                this.shares = new long[size];
+            }
+            var totalFree = 0L;
+            for (var i = 0; i < size; i++) {
+                this.free[i] = freeCapacity(targets.get(i), resource, outer);
+                totalFree = saturatedAdd(totalFree, this.free[i]);
+            }
+            Arrays.fill(this.shares, 0, size, 0L);
+
+            var amount = Math.min(maxAmount, totalFree);
+            if (amount > 0L)
+                amount = StorageUtil.simulateExtract(source, resource, amount, outer);
+            if (amount <= 0L)
+                return 0L;
+
+            this.cursor = this.cursor < size ? this.cursor : 0;
+            var inserted = 0L;
+            var remaining = amount;
+            while (remaining > 0L) {
+                share(size, remaining, totalFree);
+
+                // Targets refusing part of their share are full from now on
+                var refused = 0L;
+                totalFree = 0L;
+                for (var i = 0; i < size; i++) {
+                    var given = this.shares[i];
+                    if (given > 0L) {
+                        var accepted = targets.get(i).insert(resource, given, outer);
+                        inserted += accepted;
+                        refused += given - accepted;
+                        this.free[i] = accepted < given ? 0L : this.free[i] - accepted;
+                        this.shares[i] = 0L;
+                    }
+                    totalFree = saturatedAdd(totalFree, this.free[i]);
+                }
+                remaining = Math.min(refused, totalFree);
+            }
+            this.cursor = (this.cursor + 1) % size;
+
+            if (inserted <= 0L || source.extract(resource, inserted, outer) != inserted)
+                return 0L;
+
+            outer.commit();
+            return inserted;
+        }
+    }
+
+    private static long freeCapacity(Storage<FuelVariant> target, FuelVariant resource,
+            TransactionContext transaction) {
+        if (!target.supportsInsertion())
+            return 0L;
+        if ((target instanceof SimpleBurningStorage || target instanceof AbstractFurnaceStorage)
+                && target instanceof BurningRateLimited limited && !limited.isRateLimited()
+                && target instanceof SingleSlotStorage<FuelVariant> slot)
+            // Mirrors insertion in burning storages, where the variant changes to
+            // the inserted one if the latter has a greater capacity
+            return Math.max(0L, Math.max(slot.getCapacity(), resource.getDuration()) - slot.getAmount());
+        return StorageUtil.simulateInsert(target, resource, Long.MAX_VALUE, transaction);
+    }
+
+    private void share(int size, long amount, long totalFree) {
+        switch (this.strategy) {
+            case ROUND_ROBIN -> shareEqually(size, amount);
+            case PROPORTIONAL -> shareProportionally(size, amount, totalFree);
+            case FILL_FIRST -> fill(size, amount, 0);
+        }
+    }
+
+    private void shareEqually(int size, long amount) {
+        var remaining = amount;
+        while (remaining > 0L) {
+            var active = 0;
+            for (var i = 0; i < size; i++)
+                if (this.shares[i] < this.free[i])
+                    active++;
+            if (active == 0)
+                return;
+
+            var share = remaining / active;
+            var extra = remaining % active;
+            for (var j = 0; j < size && remaining > 0L; j++) {
+                var i = (this.cursor + j) % size;
+                var room = this.free[i] - this.shares[i];
+                if (room <= 0L)
+                    continue;
+                var give = Math.min(room, share + (extra > 0L ? 1L : 0L));
+                if (extra > 0L)
+                    extra--;
+                this.shares[i] += give;
+                remaining -= give;
+            }
+        }
+    }
+
+    private void shareProportionally(int size, long amount, long totalFree) {
+        var remaining = amount;
+        for (var i = 0; i < size; i++) {
+            var give = Math.min(Math.min(this.free[i], remaining),
+                    (long) ((double) amount * this.free[i] / totalFree));
+            this.shares[i] = give;
+            remaining -= give;
+        }
+        // Rounding leftovers
+        fill(size, remaining, this.cursor);
+    }
+
+    private void fill(int size, long amount, int from) {
+        var remaining = amount;
+        for (var j = 0; j < size && remaining > 0L; j++) {
+            var i = (from + j) % size;
+            var give = Math.min(this.free[i] - this.shares[i], remaining);
+            if (give > 0L) {
+                this.shares[i] += give;
+                remaining -= give;
+            }
+        }
+    }
+
+    private static long saturatedAdd(long a, long b) {
+        var sum = a + b;
+        return sum < 0L ? Long.MAX_VALUE : sum;
+    }
+}
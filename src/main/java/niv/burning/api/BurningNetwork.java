@@ -0,0 +1,42 @@
+package niv.burning.api;
+
+import net.fabricmc.fabric.api.transfer.v1.storage.Storage;
+
+/**
+ * A set of connected burning storages, see {@link BurningNetworks}, exposed as
+ * a single pooled storage.
+ *
+ * <p>
+ * Insertions and extractions are spread over the storages of the network, in
+ * no particular order. Amount and capacity are the sums of those of its
+ * storages.
+ *
+ * <p>
+ * Do not implement.
+ *
+ * @since 3.0
+ */
+public interface BurningNetwork extends Storage<FuelVariant> {
+
+    /**
+     * Return the number of positions in this network, including those not
+     * currently providing a storage.
+     *
+     * @return a positive integer
+     */
+    int size();
+
+    /**
+     * Return the total amount of burning held by this network.
+     *
+     * @return a non-negative amount
+     */
+    long getAmount();
+
+    /**
+     * Return the total capacity of this network.
+     *
+     * @return a non-negative capacity
+     */
+    long getCapacity();
+}
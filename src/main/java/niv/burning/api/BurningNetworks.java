@@ -0,0 +1,86 @@
+package niv.burning.api;
+
+import static java.util.Objects.requireNonNull;
+
+import org.jetbrains.annotations.Nullable;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import niv.burning.impl.LevelBurningNetworks;
+
+/**
+ * Provides per-level networks of connected burning storages.
+ *
+ * <p>
+ * Addons declare which positions take part in networks as blocks are placed
+ * and removed; positions next to each other, along any of the six directions,
+ * belong to the same {@link BurningNetwork}. Networks are merged incrementally
+ * as positions are added, and only the network of a removed position is split,
+ * as it is removed.
+ *
+ * <p>
+ * The storages of each network are balanced once per tick, at the end of the
+ * level tick, moving burning from the storages that support extraction and
+ * hold more than the average into those that hold less, within a single
+ * transaction per network.
+ *
+ * <p>
+ * Positions are not persisted: addons are expected to add them back as their
+ * blocks are loaded, for example from {@code setLevel} or on block entity load,
+ * and to remove them as they are unloaded. Networks must be used on the server
+ * thread only.
+ *
+ * <p>
+ * Do not implement, use {@link #of(ServerLevel)} instead.
+ *
+ * @since 3.0
+ */
+public interface BurningNetworks {
+
+    /**
+     * Retrieves the networks of {@code level}.
+     *
+     * @param level a non-null server level
+     * @return a non-null instance
+     */
+    static BurningNetworks of(ServerLevel level) {
+        return LevelBurningNetworks.of(requireNonNull(level));
+    }
+
+    /**
+     * Adds {@code pos} to the networks, joining every network adjacent to it.
+     *
+     * @param pos a non-null position
+     * @return true if added, false if already present
+     */
+    boolean add(BlockPos pos);
+
+    /**
+     * Removes {@code pos} from the networks, possibly splitting its network.
+     *
+     * @param pos a non-null position
+     * @return true if removed, false if not present
+     */
+    boolean remove(BlockPos pos);
+
+    /**
+     * Check wether {@code pos} was added to the networks.
+     *
+     * @param pos a non-null position
+     * @return true if present, false otherwise
+     */
+    boolean contains(BlockPos pos);
+
+    /**
+     * Return the network {@code pos} belongs to.
+     *
+     * <p>
+     * Networks are replaced whenever their positions change, so the returned
+     * instance should not be kept across ticks.
+     *
+     * @param pos a non-null position
+     * @return a network if {@code pos} is present, null otherwise
+     */
+    @Nullable
+    BurningNetwork getNetwork(BlockPos pos);
+}
@@ -0,0 +1,64 @@
+package niv.burning.api;
+
+import org.jetbrains.annotations.Nullable;
+
+import net.fabricmc.fabric.api.transfer.v1.storage.Storage;
+import net.minecraft.core.Direction;
+
+/**
+ * A burning storage whose insertions can be limited, in burning ticks per game
+ * tick, as a whole and per side.
+ *
+ * <p>
+ * Limits are token buckets refilled from the game time, so they need no
+ * ticking: each bucket holds up to {@code burst} ticks, each insertion takes
+ * the amount inserted from it, and it gains {@code rate} ticks back every game
+ * tick. Tokens taken within a transaction are given back if it is aborted.
+ *
+ * <p>
+ * Side limits apply to the storages returned by {@link #forSide(Direction)},
+ * which are also the ones returned by {@link BurningStorage#SIDED} for the
+ * built-in storages. Limits are not persisted.
+ *
+ * <p>
+ * Both {@link niv.burning.api.base.SimpleBurningStorage SimpleBurningStorage}
+ * and the storages of furnaces implement this interface.
+ *
+ * @since 3.0
+ */
+public interface BurningRateLimited {
+
+    /**
+     * Limits insertions through {@code side}, or into the whole storage if
+     * null, replacing any previous limit.
+     *
+     * @param side  a side, or null for the whole storage
+     * @param rate  a non-negative amount of burning ticks per game tick
+     * @param burst a non-negative maximum amount of burning ticks at once
+     */
+    void setRateLimit(@Nullable Direction side, long rate, long burst);
+
+    /**
+     * Removes the limit of insertions through {@code side}, or into the whole
+     * storage if null.
+     *
+     * @param side a side, or null for the whole storage
+     */
+    void removeRateLimit(@Nullable Direction side);
+
+    /**
+     * Check whether insertions are limited, as a whole or through any side.
+     *
+     * @return true if any limit is set, false otherwise
+     */
+    boolean isRateLimited();
+
+    /**
+     * Return the storage to expose through {@code side}, subject to its limit,
+     * if any.
+     *
+     * @param side a side, or null for the whole storage
+     * @return a non-null storage, this one if {@code side} is not limited
+     */
+    Storage<FuelVariant> forSide(@Nullable Direction side);
+}
@@ -4,10 +4,13 @@ import org.jetbrains.annotations.Nullable;
 
 import net.fabricmc.fabric.api.lookup.v1.block.BlockApiLookup;
 import net.fabricmc.fabric.api.transfer.v1.storage.Storage;
+import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.level.ServerLevel;
 import niv.burning.api.base.BurningStorageBlockEntity;
 import niv.burning.api.base.SimpleBurningStorage;
+import niv.burning.impl.BurningStorageBatch;
 
 /**
  * Access to {@link Storage Storage&lt;FuelVariant&gt;} instances.
@@ -29,7 +32,8 @@ public final class BurningStorage {
      *
      * <p>
      * Block entities directly implementing {@link BurningStorageBlockEntity} are
-     * automatically handled by a fallback provider, and don't need to do anything.
+     * automatically handled by a provider registered for their type as soon as
+     * the first instance is created, and don't need to do anything.
      *
      * @see {@link SimpleBurningStorage}
      */
@@ -37,22 +41,62 @@ public final class BurningStorage {
             ResourceLocation.tryParse("burning:sided_storage"),
             Storage.asClass(), Direction.class);
 
-    static {
-        /*
-         * Register fallback for block entities implementing the
-         * BurningStorageBlockEntity interface.
-         *
-         * Note: AbstractFurnaceBlockEntity implements BurningStorageBlockEntity.
-         */
-        SIDED.registerFallback((world, pos, state, entity, side) -> {
-            if (entity instanceof BurningStorageBlockEntity getter) {
-                return getter.getBurningStorage(side);
-            } else {
-                return null;
-            }
-        });
+    private BurningStorage() {
     }
 
-    private BurningStorage() {
+    /**
+     * Queries {@link #SIDED} at all of {@code positions} in one pass.
+     *
+     * @param level     a non-null server level
+     * @param positions the non-null positions to query
+     * @param sides     the sides to query, same length of {@code positions} at
+     *                  least, its elements may be null
+     * @param results   the array where to store the storage found, or null, at the
+     *                  same index of their position, same length of
+     *                  {@code positions} at least
+     * @throws IllegalArgumentException if {@code sides} or {@code results} are
+     *                                  shorter than {@code positions}
+     * @throws IllegalStateException    if not called on the server thread
+     * @see #findAll(ServerLevel, BlockPos[], Direction[], Storage[], int, int)
+     * @since 3.0
+     */
+    public static void findAll(ServerLevel level, BlockPos[] positions, @Nullable Direction[] sides,
+            @Nullable Storage<FuelVariant>[] results) {
+        BurningStorageBatch.findAll(level, positions, sides, results, 0, positions.length);
+    }
+
+    /**
+     * Queries {@link #SIDED} at {@code count} positions starting from
+     * {@code offset}, in one pass.
+     *
+     * <p>
+     * Positions are visited grouped by chunk section, so that each chunk is
+     * resolved once and sections holding only air are skipped altogether.
+     * Unlike {@link BlockApiLookup#find}, positions within chunks that are not
+     * loaded yield null instead of loading them.
+     *
+     * <p>
+     * Loaded chunks are only reachable from the server thread, hence this method
+     * must be called there.
+     *
+     * <p>
+     * All arrays can be larger than needed and reused between calls, to avoid
+     * allocating new ones every time.
+     *
+     * @param level     a non-null server level
+     * @param positions the non-null positions to query within the range
+     * @param sides     the sides to query, its elements may be null
+     * @param results   the array where to store the storage found, or null, at the
+     *                  same index of their position
+     * @param offset    the index of the first position to query
+     * @param count     the number of positions to query
+     * @throws IllegalArgumentException if the range does not fit within any of
+     *                                  the arrays
+     * @throws IllegalStateException    if not called on the server thread
+     * @since 3.0
+     */
+    public static void findAll(ServerLevel level, BlockPos[] positions, @Nullable Direction[] sides,
+            @Nullable Storage<FuelVariant>[] results, int offset, int count) {
+        BurningStorageBatch.findAll(level, positions, sides, results, offset, count);
     }
 }
@@ -0,0 +1,133 @@
+package niv.burning.api;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+
+import org.jetbrains.annotations.Nullable;
+
+import net.fabricmc.fabric.api.lookup.v1.block.BlockApiCache;
+import net.fabricmc.fabric.api.transfer.v1.storage.Storage;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import niv.burning.impl.BurningStorageDispatcher;
+
+/**
+ * Cached access to the {@link BurningStorage#SIDED} storage at a fixed
+ * position, meant to be kept by block entities that query their neighbors
+ * every tick.
+ *
+ * <p>
+ * It wraps a {@link BlockApiCache}, so it follows block changes at its
+ * position, and also keeps a storage reference for each queried direction.
+ * These references are dropped whenever the block entity at that position, or
+ * its block state, change, and whenever the {@code burning:blacklist} tag or the
+ * {@code burning:dynamic_storage} registry are reloaded.
+ *
+ * <p>
+ * Example usage:
+ *
+ * <pre>{@code
+ * // Create once, for example in setLevel or lazily in tick
+ * BurningStorageCache cache = BurningStorageCache.create(serverLevel, pos.relative(direction));
+ *
+ * // Query every tick
+ * Storage<FuelVariant> maybeBurningStorage = cache.find(direction.getOpposite());
+ * if (maybeBurningStorage != null) {
+ *     // use it
+ * }
+ * }</pre>
+ *
+ * @since 3.0
+ */
+public final class BurningStorageCache {
+
+    private static final int NULL_SIDE = Direction.values().length;
+
+    private static final Object NONE = new Object();
+
+    private final BlockApiCache<Storage<FuelVariant>, @Nullable Direction> cache;
+
+    private final Object[] storages = new Object[NULL_SIDE + 1];
+
+    private @Nullable BlockEntity entity;
+
+    private @Nullable BlockState state;
+
+    private long generation;
+
+    private BurningStorageCache(BlockApiCache<Storage<FuelVariant>, @Nullable Direction> cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * Creates a new cache for the storage at {@code pos} in {@code level}.
+     *
+     * @param level a non-null server level
+     * @param pos   a non-null position
+     * @return a new cache
+     */
+    public static BurningStorageCache create(ServerLevel level, BlockPos pos) {
+        return new BurningStorageCache(BlockApiCache.create(BurningStorage.SIDED,
+                requireNonNull(level), requireNonNull(pos).immutable()));
+    }
+
+    /**
+     * Return the storage at this cache position for the queried side, or null
+     * if none.
+     *
+     * @param side The side of the storage to query, {@code null} means that the
+     *             full storage without the restriction should be returned instead.
+     * @return a storage if available, null otherwise
+     */
+    @SuppressWarnings("unchecked")
+    public @Nullable Storage<FuelVariant> find(@Nullable Direction side) {
+        var current = this.cache.getBlockEntity();
+        if (current == null) {
+            invalidate(null, null, 0L);
+            return this.cache.find(side);
+        }
+
+        var currentState = current.getBlockState();
+        var currentGeneration = BurningStorageDispatcher.getGeneration();
+        if (current != this.entity || currentState != this.state || currentGeneration != this.generation)
+            invalidate(current, currentState, currentGeneration);
+
+        var index = side == null ? NULL_SIDE : side.ordinal();
+        var storage = this.storages[index];
+        if (storage == null) {
+            storage = this.cache.find(currentState, side);
+            this.storages[index] = storage == null ? NONE : storage;
+        }
+        return storage == NONE ? null : (Storage<FuelVariant>) storage;
+    }
+
+    /**
+     * Return the level of this cache.
+     *
+     * @return a non-null server level
+     */
+    public ServerLevel getLevel() {
+        return this.cache.getWorld();
+    }
+
+    /**
+     * Return the position of this cache.
+     *
+     * @return a non-null position
+     */
+    public BlockPos getPos() {
+        return this.cache.getPos();
+    }
+
+    private void invalidate(@Nullable BlockEntity entity, @Nullable BlockState state, long generation) {
+        if (this.entity != null || entity != null)
+            Arrays.fill(this.storages, null);
+        this.entity = entity;
+        this.state = state;
+        this.generation = generation;
+    }
+}
@@ -0,0 +1,73 @@
+package niv.burning.api;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.BiConsumer;
+
+import net.fabricmc.fabric.api.transfer.v1.storage.Storage;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.levelgen.structure.BoundingBox;
+import niv.burning.impl.LevelBurningStorageIndex;
+
+/**
+ * Provides a per-level index of the loaded block entities that may provide a
+ * {@link BurningStorage#SIDED} storage, bucketed by chunk section.
+ *
+ * <p>
+ * Block entities are tracked as they are loaded, placed, removed, and unloaded,
+ * so that area queries only visit the sections that actually hold any, and
+ * sections without any cost a single hash lookup. Queries resolve storages with
+ * a {@code null} side, and skip block entities that don't provide one anymore,
+ * for example because blacklisted.
+ *
+ * <p>
+ * Only block entities whose blocks have a provider registered through
+ * {@link BurningStorage#SIDED} are tracked, fallback providers are not.
+ * The index must be used on the server thread only, and the world must not be
+ * modified from within the query actions.
+ *
+ * <p>
+ * Do not implement, use {@link #of(ServerLevel)} instead.
+ *
+ * @since 3.0
+ */
+public interface BurningStorageIndex {
+
+    /**
+     * Retrieves the index of {@code level}.
+     *
+     * @param level a non-null server level
+     * @return a non-null index
+     */
+    static BurningStorageIndex of(ServerLevel level) {
+        return LevelBurningStorageIndex.of(requireNonNull(level));
+    }
+
+    /**
+     * Check wether any tracked block entity is within {@code section}.
+     *
+     * @param section a non-null section position
+     * @return true if the section may hold burning storages, false otherwise
+     */
+    boolean hasAny(SectionPos section);
+
+    /**
+     * Performs {@code action} on every burning storage within {@code box}.
+     *
+     * @param box    a non-null bounding box, inclusive
+     * @param action a non-null action receiving the position and the storage
+     */
+    void forEachInBox(BoundingBox box, BiConsumer<BlockPos, Storage<FuelVariant>> action);
+
+    /**
+     * Performs {@code action} on every burning storage whose position is within
+     * {@code radius} blocks of {@code center}.
+     *
+     * @param center a non-null position
+     * @param radius a non-negative radius
+     * @param action a non-null action receiving the position and the storage
+     */
+    void forEachInRadius(BlockPos center, double radius, BiConsumer<BlockPos, Storage<FuelVariant>> action);
+}
@@ -0,0 +1,28 @@
+package niv.burning.api;
+
+import net.fabricmc.fabric.api.transfer.v1.storage.Storage;
+
+/**
+ * Receives the changes of a {@link ListenableBurningStorage}, once per final
+ * commit of the outer transaction that modified it.
+ *
+ * @since 3.0
+ */
+@FunctionalInterface
+public interface BurningStorageListener {
+
+    /**
+     * Called after the outer transaction that modified {@code storage} is
+     * committed, with the state it had before that transaction and the state it
+     * has now. Not called if both states are the same.
+     *
+     * @param storage     the non-null storage that changed
+     * @param oldResource the non-null fuel variant held before
+     * @param oldAmount   the amount held before
+     * @param newResource the non-null fuel variant held now
+     * @param newAmount   the amount held now
+     */
+    void onBurningChanged(Storage<FuelVariant> storage,
+            FuelVariant oldResource, long oldAmount,
+            FuelVariant newResource, long newAmount);
+}
@@ -0,0 +1,102 @@
+package niv.burning.api;
+
+import org.jetbrains.annotations.Nullable;
+
+import it.unimi.dsi.fastutil.objects.Object2LongLinkedOpenHashMap;
+import net.fabricmc.fabric.api.transfer.v1.item.ItemVariant;
+import net.fabricmc.fabric.api.transfer.v1.storage.Storage;
+import net.fabricmc.fabric.api.transfer.v1.storage.StoragePreconditions;
+import net.fabricmc.fabric.api.transfer.v1.storage.StorageUtil;
+import net.fabricmc.fabric.api.transfer.v1.transaction.Transaction;
+import net.fabricmc.fabric.api.transfer.v1.transaction.TransactionContext;
+import net.minecraft.world.item.ItemStack;
+
+/**
+ * Helpers to move fuel between item storages and burning storages.
+ *
+ * @since 3.0
+ */
+public final class BurningStorageUtil {
+
+    private BurningStorageUtil() {
+    }
+
+    /**
+     * Burns items extracted from {@code from} into {@code to}, up to
+     * {@code maxTicks} burning ticks.
+     *
+     * <p>
+     * The distinct fuel variants of {@code from} are collected first, then, for
+     * each of them, the number of whole items both needed and accepted by
+     * {@code to} is computed, and that many items are extracted and inserted as
+     * burning at once, instead of one item at a time. Items are never partially
+     * burnt: fuels whose duration exceeds what is left to insert are skipped.
+     *
+     * <p>
+     * As in furnaces, the crafting remainder of each item burnt, like the bucket
+     * of a lava bucket, is inserted back into {@code from}; fuels whose
+     * remainders do not fit are not burnt.
+     *
+     * @param from        a non-null item storage
+     * @param to          a non-null burning storage
+     * @param maxTicks    the maximum amount of burning ticks to insert
+     * @param transaction the transaction to use, null to open and commit a new
+     *                    one
+     * @return the amount of burning ticks inserted into {@code to}
+     */
+    public static long convert(Storage<ItemVariant> from, Storage<FuelVariant> to, long maxTicks,
+            @Nullable TransactionContext transaction) {
+        StoragePreconditions.notNegative(maxTicks);
+        if (maxTicks == 0L || !from.supportsExtraction() || !to.supportsInsertion())
+            return 0L;
+
+        var available = new Object2LongLinkedOpenHashMap<ItemVariant>();
+        for (var view : from.nonEmptyViews())
+            available.addTo(view.getResource(), view.getAmount());
+        if (available.isEmpty())
+            return 0L;
+
+        try (var outer = Transaction.openNested(transaction)) {
+            var inserted = 0L;
+            for (var entry : available.object2LongEntrySet()) {
+                var item = entry.getKey();
+                // Whole stacks, components included
+                var stack = item.toStack();
+                if (!FuelVariant.isFuel(stack))
+                    continue;
+                var fuel = FuelVariant.of(stack);
+                long duration = fuel.getDuration();
+                var count = Math.min(entry.getLongValue(), (maxTicks - inserted) / Math.max(duration, 1L));
+                if (duration <= 0L || count <= 0L)
+                    continue;
+
+                count = Math.min(count, StorageUtil.simulateInsert(to, fuel, count * duration, outer) / duration);
+                if (count <= 0L)
+                    continue;
+
+                var remainder = item.getItem().getCraftingRemainder();
+                try (var nested = outer.openNested()) {
+                    var extracted = from.extract(item, count, nested);
+                    if (extracted > 0L && to.insert(fuel, extracted * duration, nested) == extracted * duration
+                            && insertRemainder(from, remainder, extracted, nested)) {
+                        inserted += extracted * duration;
+                        nested.commit();
+                    }
+                }
+
+                if (inserted >= maxTicks)
+                    break;
+            }
+            outer.commit();
+            return inserted;
+        }
+    }
+
+    private static boolean insertRemainder(Storage<ItemVariant> into, ItemStack remainder, long count,
+            TransactionContext transaction) {
+        if (remainder.isEmpty())
+            return true;
+        var amount = count * remainder.getCount();
+        return into.insert(ItemVariant.of(remainder), amount, transaction) == amount;
+    }
+}
@@ -0,0 +1,108 @@
+package niv.burning.api;
+
+import static java.util.Objects.requireNonNull;
+
+import net.fabricmc.fabric.api.transfer.v1.storage.Storage;
+import net.fabricmc.fabric.api.transfer.v1.storage.base.SingleSlotStorage;
+import net.minecraft.server.level.ServerLevel;
+import niv.burning.impl.LevelBurningTimers;
+
+/**
+ * Provides per-level notifications of burning storages running low, predicted
+ * from their drain rate instead of polling them every tick.
+ *
+ * <p>
+ * Each subscription computes the game time at which its storage, draining at
+ * the given rate, will hold no more than the given threshold, and waits for it
+ * in a hierarchical timing wheel, which costs nothing per tick until then.
+ * Whenever an insertion or an extraction into the storage is committed, the
+ * subscription is rescheduled from its new amount. When the predicted time
+ * comes the amount is checked again: the action is performed if it is at or
+ * below the threshold, otherwise the subscription is rescheduled.
+ *
+ * <p>
+ * Subscriptions are one-shot, and they are cancelled once their action is
+ * performed, or once the block entity whose storage they watch is unloaded or
+ * removed. They are not persisted, and they must be used on the server
+ * thread only; the game time of the level is used, so they are paused while
+ * the game is frozen.
+ *
+ * <p>
+ * Do not implement, use {@link #of(ServerLevel)} instead.
+ *
+ * @since 3.0
+ */
+public interface BurningTimers {
+
+    /**
+     * Retrieves the timers of {@code level}.
+     *
+     * @param level a non-null server level
+     * @return a non-null instance
+     */
+    static BurningTimers of(ServerLevel level) {
+        return LevelBurningTimers.of(requireNonNull(level));
+    }
+
+    /**
+     * Performs {@code action} once {@code storage} holds no more than
+     * {@code threshold} burning ticks.
+     *
+     * @param storage   a storage that is both a {@link SingleSlotStorage} and a
+     *                  {@link ListenableBurningStorage}, like all of the built-in
+     *                  ones
+     * @param rate      the non-negative amount drained every game tick, zero if
+     *                  it only changes through transactions
+     * @param threshold a non-negative amount
+     * @param action    a non-null action
+     * @return a new subscription
+     * @throws IllegalArgumentException if {@code storage} is not supported
+     */
+    Subscription whenBelow(Storage<FuelVariant> storage, long rate, long threshold, Action action);
+
+    /**
+     * Performs {@code action} once {@code storage} runs dry.
+     *
+     * @param storage a storage, see {@link #whenBelow}
+     * @param rate    the non-negative amount drained every game tick
+     * @param action  a non-null action
+     * @return a new subscription
+     * @throws IllegalArgumentException if {@code storage} is not supported
+     */
+    default Subscription whenDepleted(Storage<FuelVariant> storage, long rate, Action action) {
+        return whenBelow(storage, rate, 0L, action);
+    }
+
+    /**
+     * Performed when a subscription is due.
+     */
+    @FunctionalInterface
+    interface Action {
+
+        /**
+         * Called once the storage holds no more than the threshold.
+         *
+         * @param storage the non-null storage
+         * @param amount  the amount it holds
+         */
+        void onBelow(Storage<FuelVariant> storage, long amount);
+    }
+
+    /**
+     * A pending notification.
+     */
+    interface Subscription {
+
+        /**
+         * Check whether the action is still to be performed.
+         *
+         * @return true until performed or cancelled
+         */
+        boolean isActive();
+
+        /**
+         * Cancels this subscription, if active.
+         */
+        void cancel();
+    }
+}
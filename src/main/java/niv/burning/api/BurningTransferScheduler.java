@@ -0,0 +1,87 @@
+package niv.burning.api;
+
+import static java.util.Objects.requireNonNull;
+
+import org.jetbrains.annotations.Nullable;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.server.level.ServerLevel;
+import niv.burning.impl.LevelBurningTransferScheduler;
+
+/**
+ * Provides a per-level queue of burning transfers, executed once per tick in
+ * place of transfers done by each block entity in its own {@code tick()}.
+ *
+ * <p>
+ * Transfers scheduled during a tick are executed at the end of that level
+ * tick, grouped by the chunk of their source and resolved in batches through
+ * {@link BurningStorage#findAll}. Execution stops as soon as the time spent
+ * exceeds the {@linkplain #setBudget(long) budget}, and the transfers left are
+ * carried over to the next tick, before any newly scheduled one.
+ *
+ * <p>
+ * Each transfer moves up to its amount from the source storage into the target
+ * storage within its own transaction; any amount that could not be moved is
+ * dropped, not retried. Transfers whose storages are missing, for example
+ * because their chunks are not loaded, are dropped too.
+ *
+ * <p>
+ * The scheduler must be used on the server thread only.
+ *
+ * <p>
+ * Do not implement, use {@link #of(ServerLevel)} instead.
+ *
+ * @since 3.0
+ */
+public interface BurningTransferScheduler {
+
+    /**
+     * Default time budget per tick, in nanoseconds.
+     */
+    long DEFAULT_BUDGET = 1_000_000L;
+
+    /**
+     * Retrieves the scheduler of {@code level}.
+     *
+     * @param level a non-null server level
+     * @return a non-null scheduler
+     */
+    static BurningTransferScheduler of(ServerLevel level) {
+        return LevelBurningTransferScheduler.of(requireNonNull(level));
+    }
+
+    /**
+     * Queues a transfer of up to {@code amount} burning.
+     *
+     * @param source     the position of the source storage
+     * @param sourceSide the side of the source storage, may be null
+     * @param target     the position of the target storage
+     * @param targetSide the side of the target storage, may be null
+     * @param amount     a positive amount
+     */
+    void schedule(BlockPos source, @Nullable Direction sourceSide,
+            BlockPos target, @Nullable Direction targetSide, long amount);
+
+    /**
+     * Return the number of transfers waiting to be executed.
+     *
+     * @return a non-negative integer
+     */
+    int getPending();
+
+    /**
+     * Return the time budget per tick.
+     *
+     * @return a duration in nanoseconds
+     */
+    long getBudget();
+
+    /**
+     * Set the time budget per tick. At least one batch of transfers is executed
+     * every tick, whatever the budget.
+     *
+     * @param nanos a non-negative duration in nanoseconds
+     */
+    void setBudget(long nanos);
+}
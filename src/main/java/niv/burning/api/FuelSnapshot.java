@@ -0,0 +1,74 @@
+package niv.burning.api;
+
+import static java.util.Objects.requireNonNull;
+
+import net.minecraft.world.item.Item;
+import niv.burning.impl.Burning;
+
+/**
+ * Provides an immutable, versioned snapshot of the fuel values.
+ *
+ * <p>
+ * Snapshots are safely published and never change once retrieved, thus they
+ * can be queried from any thread without locking. A new snapshot replaces the
+ * current one when the server starts, after every successful data pack reload,
+ * and when the server stops.
+ *
+ * <p>
+ * Do not implement, use {@link #current()} instead.
+ *
+ * @since 3.0
+ */
+public interface FuelSnapshot {
+
+    /**
+     * Retrieves the current snapshot.
+     *
+     * @return a non-null snapshot
+     */
+    static FuelSnapshot current() {
+        return Burning.fuelSnapshot();
+    }
+
+    /**
+     * Return the generation of this snapshot, the same passed to
+     * {@link FuelValuesEvents#CHANGED} listeners when it was published.
+     *
+     * @return a non-negative long
+     */
+    long getGeneration();
+
+    /**
+     * Return the burn duration of {@code item} in this snapshot.
+     *
+     * @param item a non-null item
+     * @return a non-negative integer, zero if {@code item} is not a fuel
+     */
+    int getDuration(Item item);
+
+    /**
+     * Check wether {@code item} is a fuel in this snapshot.
+     *
+     * @param item a non-null item
+     * @return true if {@code item} is a fuel, false otherwise
+     */
+    boolean isFuel(Item item);
+
+    /**
+     * Retrieves a instance if {@code item} is a fuel in this snapshot.
+     *
+     * @param item a non-null item
+     * @return a non-blank instance if {@code item} is a fuel, {@link FuelVariant#BLANK} otherwise.
+     */
+    FuelVariant getVariant(Item item);
+
+    /**
+     * Return the burn duration of {@code variant} in this snapshot.
+     *
+     * @param variant a non-null fuel variant
+     * @return a non-negative integer
+     */
+    default int getDuration(FuelVariant variant) {
+        return requireNonNull(variant).isBlank() ? 0 : getDuration(variant.getFuel());
+    }
+}
@@ -0,0 +1,46 @@
+package niv.burning.api;
+
+import java.util.Set;
+
+import net.fabricmc.fabric.api.event.Event;
+import net.fabricmc.fabric.api.event.EventFactory;
+import net.minecraft.world.item.Item;
+
+/**
+ * Events related to the fuel values backing {@link FuelVariant#getDuration()}.
+ *
+ * @since 3.0
+ */
+public final class FuelValuesEvents {
+
+    /**
+     * Called after the fuel values have been rebuilt, that is when the server
+     * starts and after every successful data pack reload.
+     *
+     * <p>
+     * When this is invoked, {@link FuelVariant#getDuration()} and
+     * {@link FuelVariant#isFuel(Item)} already answer with the new values.
+     */
+    public static final Event<Changed> CHANGED = EventFactory.createArrayBacked(Changed.class,
+            callbacks -> (generation, changed) -> {
+                for (var callback : callbacks) {
+                    callback.onFuelValuesChanged(generation, changed);
+                }
+            });
+
+    private FuelValuesEvents() {
+    }
+
+    @FunctionalInterface
+    public interface Changed {
+
+        /**
+         * Called after the fuel values have been rebuilt.
+         *
+         * @param generation a counter increased on each rebuild
+         * @param changed    the immutable set of items whose burn duration, or fuel
+         *                   status, changed since the previous generation
+         */
+        void onFuelValuesChanged(long generation, Set<Item> changed);
+    }
+}
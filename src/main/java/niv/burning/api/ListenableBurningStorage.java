@@ -0,0 +1,35 @@
+package niv.burning.api;
+
+/**
+ * A burning storage that notifies {@link BurningStorageListener listeners} of
+ * its changes, so that they don't need to poll it every tick.
+ *
+ * <p>
+ * Listeners are notified once per final commit, in the order they were added;
+ * changes made outside of transactions, like furnaces burning down their fuel
+ * as they tick, are not reported. Listeners are kept in a copy-on-write array,
+ * so adding and removing them allocate while notifying does not, and storages
+ * without listeners bear no cost at all. Listeners are not persisted.
+ *
+ * <p>
+ * Both {@link niv.burning.api.base.SimpleBurningStorage SimpleBurningStorage}
+ * and the storages of furnaces implement this interface.
+ *
+ * @since 3.0
+ */
+public interface ListenableBurningStorage {
+
+    /**
+     * Adds {@code listener}, if not already added.
+     *
+     * @param listener a non-null listener
+     */
+    void addListener(BurningStorageListener listener);
+
+    /**
+     * Removes {@code listener}, if added.
+     *
+     * @param listener a non-null listener
+     */
+    void removeListener(BurningStorageListener listener);
+}
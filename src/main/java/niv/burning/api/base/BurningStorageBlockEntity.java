@@ -13,9 +13,10 @@ import niv.burning.api.FuelVariant;
  * wish to provide a sided burning storage without having to register a provider
  * for each block entity type.
  * <p>
- * How it works is that this library registers fallback providers for instances
- * of this interface. This can be used for convenient storage registration, but
- * please always use the SIDED lookups for queries:
+ * How it works is that this library registers a provider for the blocks of the
+ * type of each block entity implementing this interface, once the registries
+ * are frozen, on both the client and the server. This can be used for convenient storage registration, but please
+ * always use the SIDED lookups for queries:
  *
  * <pre>{@code
  * BurningStorage maybeBurningStorage = BurningStorage.SIDED.find(level, pos, direction);
@@ -0,0 +1,241 @@
+package niv.burning.api.base;
+
+import java.util.function.LongSupplier;
+
+import net.fabricmc.fabric.api.transfer.v1.storage.StoragePreconditions;
+import net.fabricmc.fabric.api.transfer.v1.transaction.TransactionContext;
+import net.minecraft.world.level.storage.ValueInput;
+import net.minecraft.world.level.storage.ValueOutput;
+import niv.burning.api.FuelVariant;
+
+/**
+ * A {@link SimpleBurningStorage} that burns down on its own, at a fixed rate
+ * per game tick, without being ticked.
+ *
+ * <p>
+ * The storage keeps the amount it held at a reference time, and computes the
+ * current amount from the clock when read; the amount is settled, and the
+ * reference time moved to the current time, before every change, so that
+ * transactions record and restore settled amounts only. Pair it with
+ * {@link niv.burning.api.BurningTimers} at the same rate to be notified when it
+ * burns out.
+ *
+ * <p>
+ * The clock is usually the game time of the level of the owning block entity,
+ * which stops while the game is {@code /tick freeze}-d, and it must return a
+ * negative value while the time is not available, for example before the block
+ * entity has a level: time then stands still, at the amount of the last
+ * change. Time passed while unloaded is not burnt either, as loading resets
+ * the reference time; burning starts again from {@link #start()}, which the
+ * owner calls once its level is set, or from loading itself if the clock is
+ * available by then. Reads never change the state of the storage.
+ *
+ * <p>
+ * Example usage:
+ *
+ * <pre>
+ * public class MyBlockEntity extends BlockEntity {
+ *   public final DecayingBurningStorage burningStorage = new DecayingBurningStorage(
+ *       () -> this.level == null ? -1L : this.level.getGameTime(), 1L) {
+ *      {@literal @}Override
+ *      protected void onFinalCommit() {
+ *          setChanged();
+ *      }
+ *   };
+ *
+ *   {@literal @}Override
+ *   public void setLevel(Level level) {
+ *     super.setLevel(level);
+ *     this.burningStorage.start();
+ *   }
+ *
+ *   {@literal @}Override
+ *   protected void loadAdditional(ValueInput input) {
+ *     super.loadAdditional(input);
+ *     this.burningStorage.load(input.childOrEmpty("burning"));
+ *   }
+ *
+ *   {@literal @}Override
+ *   protected void saveAdditional(ValueOutput output) {
+ *     super.saveAdditional(output);
+ *     this.burningStorage.save(output.child("burning"));
+ *   }
+ * }
+ * </pre>
+ *
+ * @since 3.0
+ */
+public class DecayingBurningStorage extends SimpleBurningStorage {
+
+    private static final long UNSET = Long.MIN_VALUE;
+
+    private final LongSupplier clock;
+
+    private long rate;
+
+    private long referenceTime = UNSET;
+
+    /**
+     * Class constructor.
+     *
+     * @param clock a non-null game time supplier, negative while not available
+     * @param rate  the non-negative amount burnt every game tick
+     */
+    public DecayingBurningStorage(LongSupplier clock, long rate) {
+        super(clock);
+        StoragePreconditions.notNegative(rate);
+        this.clock = clock;
+        this.rate = rate;
+    }
+
+    /**
+     * Return the amount burnt every game tick.
+     *
+     * @return a non-negative amount
+     */
+    public long getRate() {
+        return this.rate;
+    }
+
+    /**
+     * Set the amount burnt every game tick, from now on.
+     *
+     * @param rate a non-negative amount
+     */
+    public void setRate(long rate) {
+        StoragePreconditions.notNegative(rate);
+        settle();
+        this.rate = rate;
+    }
+
+    /**
+     * Starts burning from the current time, unless already started or unless
+     * the clock is not available yet. Meant to be called by the owner as soon as
+     * the clock is available, for example when its level is set.
+     */
+    public void start() {
+        if (this.referenceTime == UNSET) {
+            var now = this.clock.getAsLong();
+            if (now >= 0L)
+                this.referenceTime = now;
+        }
+    }
+
+    /**
+     * Return whether burning started, that is whether the amount decreases as
+     * time passes.
+     *
+     * @return true if started, false otherwise
+     */
+    public boolean isStarted() {
+        return this.referenceTime != UNSET;
+    }
+
+    /**
+     * Settles the current amount, and moves the reference time to now, starting
+     * burning if not started yet.
+     */
+    protected final void settle() {
+        var now = this.clock.getAsLong();
+        if (now < 0L)
+            return;
+        if (this.referenceTime != UNSET) {
+            this.amount = amountAt(now);
+            if (this.amount <= 0L)
+                this.variant = FuelVariant.BLANK;
+        }
+        this.referenceTime = now;
+    }
+
+    private long amountAt(long now) {
+        if (this.referenceTime == UNSET || now <= this.referenceTime || this.rate == 0L)
+            return this.amount;
+        var elapsed = now - this.referenceTime;
+        return elapsed >= this.amount / this.rate + 1L ? 0L : Math.max(0L, this.amount - elapsed * this.rate);
+    }
+
+    /*
+     * The amount settled last while the clock is not available
+     */
+    private long currentAmount() {
+        var now = this.clock.getAsLong();
+        return now < 0L ? this.amount : amountAt(now);
+    }
+
+    /**
+     * Saves the current variant and amount into {@code output}.
+     *
+     * @param output a non-null value output
+     */
+    public void save(ValueOutput output) {
+        settle();
+        output.store("variant", FuelVariant.CODEC, this.variant);
+        output.putLong("amount", this.amount);
+    }
+
+    /**
+     * Loads the variant and the amount from {@code input}, restarting burning
+     * from the current time if the clock is available, or else from
+     * {@link #start()}.
+     *
+     * @param input a non-null value input
+     */
+    public void load(ValueInput input) {
+        this.variant = input.read("variant", FuelVariant.CODEC).orElse(FuelVariant.BLANK);
+        this.amount = Math.max(0L, input.getLongOr("amount", 0L));
+        if (this.amount <= 0L)
+            this.variant = FuelVariant.BLANK;
+        this.referenceTime = UNSET;
+        start();
+    }
+
+    // SingleVariantStorage
+
+    @Override
+    public FuelVariant getResource() {
+        return currentAmount() > 0L ? this.variant : FuelVariant.BLANK;
+    }
+
+    @Override
+    public boolean isResourceBlank() {
+        return getResource().isBlank();
+    }
+
+    @Override
+    public long getAmount() {
+        return currentAmount();
+    }
+
+    @Override
+    public long getCapacity() {
+        return getCapacity(getResource());
+    }
+
+    // SnapshotParticipant
+
+    /**
+     * Settles the current amount before recording it, as every change made
+     * within a transaction, side views included, goes through here first.
+     *
+     * @param transaction a non-null open transaction
+     */
+    @Override
+    public void updateSnapshots(TransactionContext transaction) {
+        settle();
+        super.updateSnapshots(transaction);
+    }
+
+    // Owner API
+
+    @Override
+    public long addTicks(FuelVariant resource, long ticks) {
+        settle();
+        return super.addTicks(resource, ticks);
+    }
+
+    @Override
+    public long consumeTicks(long ticks) {
+        settle();
+        return super.consumeTicks(ticks);
+    }
+}
@@ -1,16 +1,42 @@
 package niv.burning.api.base;
 
 import static java.lang.Math.clamp;
+import static java.util.Objects.requireNonNull;
 
+import java.util.function.LongSupplier;
+
+import org.jetbrains.annotations.Nullable;
+
+import net.fabricmc.fabric.api.transfer.v1.storage.Storage;
 import net.fabricmc.fabric.api.transfer.v1.storage.StoragePreconditions;
 import net.fabricmc.fabric.api.transfer.v1.storage.base.SingleVariantStorage;
+import net.fabricmc.fabric.api.transfer.v1.transaction.Transaction;
 import net.fabricmc.fabric.api.transfer.v1.transaction.TransactionContext;
+import net.minecraft.core.Direction;
+import niv.burning.api.BurningRateLimited;
+import niv.burning.api.BurningStorageListener;
 import niv.burning.api.FuelVariant;
+import niv.burning.api.ListenableBurningStorage;
+import niv.burning.impl.BurningJournal;
+import niv.burning.impl.BurningListeners;
+import niv.burning.impl.RateLimits;
 
 /**
  * Provides a simple burning storage implementation that supports insertion and
  * extraction, enable snapshotting, and has easy load and save methods.
  * <p>
+ * Snapshots are not kept per storage: the state before each modification is
+ * recorded once per transaction in a journal shared by all burning storages, so
+ * {@link #updateSnapshots(TransactionContext)} allocates no snapshot, and the
+ * inherited snapshot list stays empty. {@link #onFinalCommit()} is still called
+ * once per outer commit.
+ * <p>
+ * Subclasses overriding {@link #createSnapshot()}, {@link #readSnapshot} or
+ * {@link #releaseSnapshot} to snapshot more state are detected, and use the
+ * inherited snapshot list instead, so that those methods are called as
+ * documented by {@link net.fabricmc.fabric.api.transfer.v1.transaction.base.SnapshotParticipant
+ * SnapshotParticipant}.
+ * <p>
  * Example usage:
  *
  * <pre>
@@ -25,14 +51,11 @@ import niv.burning.api.FuelVariant;
  *      }
  *   };
  *
- *   // Use the storage internally, for example in tick()
+ *   // Use the storage internally, for example in tick(), without opening a transaction
  *   public void tick() {
  *     if (!this.level.isClientSide && this.burningStorage.getAmount() > 0) {
- *       try (Transaction transaction = Transaction.openOuter()) {
- *          Burning extracted = this.burningStorage.extract(FuelVariant.COAL, 200, transaction);
- *          // do something with amount just extracted
- *          transaction.commit();
- *       }
+ *       long consumed = this.burningStorage.consumeTicks(1);
+ *       // do something with amount just consumed
  *     }
  *   }
  *
@@ -42,19 +65,63 @@ import niv.burning.api.FuelVariant;
  *
  * // Don't forget to register the burning storage. Make sure to call this after you create the block entity type.
  * BlockEntityType<MyBlockEntity> MY_BLOCK_ENTITY;
- * BurningStorage.SIDED.registerForBlockEntity((myBlockEntity, direction) -> myBlockEntity.burningStorage, MY_BLOCK_ENTITY);
+ * BurningStorage.SIDED.registerForBlockEntity((myBlockEntity, direction) -> myBlockEntity.burningStorage.forSide(direction), MY_BLOCK_ENTITY);
  *
  * </pre>
  * <p>
  *
  * @since 1.0
  */
-public class SimpleBurningStorage extends SingleVariantStorage<FuelVariant> {
+public class SimpleBurningStorage extends SingleVariantStorage<FuelVariant>
+        implements BurningRateLimited, ListenableBurningStorage {
+
+    /*
+     * Whether a class overrides any of the snapshot methods
+     */
+    private static final ClassValue<Boolean> SNAPSHOTTING = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            for (var current = type; current != SimpleBurningStorage.class; current = current.getSuperclass())
+                for (var method : current.getDeclaredMethods())
+                    switch (method.getName()) {
+                        case "createSnapshot", "readSnapshot", "releaseSnapshot":
+                            return Boolean.TRUE;
+                        default:
+                            break;
+                    }
+            return Boolean.FALSE;
+        }
+    };
+
+    private static final LongSupplier NO_CLOCK = () -> -1L;
+
+    private final boolean snapshotting = SNAPSHOTTING.get(getClass());
+
+    private final Journal journal = new Journal();
+
+    private final LongSupplier clock;
+
+    private @Nullable RateLimits<SimpleBurningStorage> limits = null;
+
+    private BurningStorageListener[] listeners = BurningListeners.EMPTY;
 
     /**
-     * Class constructor.
+     * Class constructor, for storages without a clock, which cannot be
+     * {@link #setRateLimit rate limited}.
      */
     public SimpleBurningStorage() {
+        this(NO_CLOCK);
+    }
+
+    /**
+     * Class constructor.
+     *
+     * @param clock a non-null game time supplier, usually the game time of the
+     *              level of the owner, negative while not available
+     * @since 3.0
+     */
+    public SimpleBurningStorage(LongSupplier clock) {
+        this.clock = requireNonNull(clock);
         this.variant = FuelVariant.BLANK;
         this.amount = 0L;
     }
@@ -75,8 +142,28 @@ public class SimpleBurningStorage extends SingleVariantStorage<FuelVariant> {
 
     @Override
     public long insert(FuelVariant resource, long maxAmount, TransactionContext transaction) {
+        return insert(resource, maxAmount, transaction, null);
+    }
+
+    @Override
+    public long extract(FuelVariant resource, long maxAmount, TransactionContext transaction) {
         StoragePreconditions.notBlankNotNegative(resource, maxAmount);
+        return extractNow(resource, maxAmount, transaction, false);
+    }
 
+    private long insert(FuelVariant resource, long maxAmount, TransactionContext transaction,
+            @Nullable Direction side) {
+        StoragePreconditions.notBlankNotNegative(resource, maxAmount);
+        var limits = this.limits;
+        if (limits == null)
+            return insertNow(resource, maxAmount, transaction, false);
+        var inserted = insertNow(resource, Math.min(maxAmount, limits.available(side)), transaction, false);
+        limits.consume(side, inserted, transaction);
+        return inserted;
+    }
+
+    private long insertNow(FuelVariant resource, long maxAmount, @Nullable TransactionContext transaction,
+            boolean direct) {
         var oldCapacity = getCapacity();
         var newCapacity = resource.getDuration();
         var oldAmount = getAmount();
@@ -84,7 +171,8 @@ public class SimpleBurningStorage extends SingleVariantStorage<FuelVariant> {
         if (newAmount <= oldAmount)
             return 0L;
 
-        updateSnapshots(transaction);
+        if (!direct)
+            updateSnapshots(transaction);
 
         if (newAmount > oldCapacity) {
             this.variant = resource;
@@ -97,18 +185,26 @@ public class SimpleBurningStorage extends SingleVariantStorage<FuelVariant> {
         return newAmount - oldAmount;
     }
 
-    @Override
-    public long extract(FuelVariant resource, long maxAmount, TransactionContext transaction) {
-        StoragePreconditions.notBlankNotNegative(resource, maxAmount);
+    /*
+     * Amount left after extracting up to maxAmount of resource, the current one
+     * when nothing would be extracted
+     */
+    private long amountAfterExtraction(FuelVariant resource, long maxAmount, long oldAmount, long oldCapacity) {
+        var newAmount = clamp(oldAmount - maxAmount, 0, Math.max(oldCapacity, resource.getDuration()));
+        return Math.min(newAmount, oldAmount);
+    }
 
+    private long extractNow(FuelVariant resource, long maxAmount, @Nullable TransactionContext transaction,
+            boolean direct) {
         var oldCapacity = getCapacity();
         var newCapacity = resource.getDuration();
         var oldAmount = getAmount();
-        var newAmount = clamp(oldAmount - maxAmount, 0, Math.max(oldCapacity, newCapacity));
+        var newAmount = amountAfterExtraction(resource, maxAmount, oldAmount, oldCapacity);
         if (newAmount >= oldAmount)
             return 0L;
 
-        updateSnapshots(transaction);
+        if (!direct)
+            updateSnapshots(transaction);
 
         if (oldCapacity > newCapacity && newAmount <= newCapacity)
             this.variant = resource;
@@ -119,4 +215,253 @@ public class SimpleBurningStorage extends SingleVariantStorage<FuelVariant> {
 
         return oldAmount - newAmount;
     }
+
+    // Owner API
+
+    /**
+     * Return how much of {@code resource} an insertion would accept, without
+     * opening a transaction.
+     *
+     * @param resource a fuel variant
+     * @return a non-negative amount, zero if {@code resource} is blank
+     * @throws IllegalStateException if a transaction is open
+     * @since 3.0
+     */
+    public long maxInsertable(FuelVariant resource) {
+        checkNoTransaction();
+        if (resource.isBlank())
+            return 0L;
+        var result = Math.max(0L, Math.max(getCapacity(), resource.getDuration()) - getAmount());
+        return this.limits == null ? result : Math.min(result, this.limits.available(null));
+    }
+
+    /**
+     * Return how much of {@code resource} an extraction would give, without
+     * opening a transaction.
+     *
+     * @param resource a fuel variant
+     * @return a non-negative amount, zero if {@code resource} is blank
+     * @throws IllegalStateException if a transaction is open
+     * @since 3.0
+     */
+    public long maxExtractable(FuelVariant resource) {
+        checkNoTransaction();
+        if (resource.isBlank())
+            return 0L;
+        var amount = getAmount();
+        return amount - amountAfterExtraction(resource, Long.MAX_VALUE, amount, getCapacity());
+    }
+
+    /**
+     * Add up to {@code ticks} burning ticks of {@code resource} directly, as if
+     * inserted within a committed transaction, {@link #onFinalCommit()} and
+     * listeners included.
+     * Meant for the owner of this storage, for example in its {@code tick()}.
+     *
+     * @param resource a non-blank fuel variant
+     * @param ticks    a non-negative amount
+     * @return the amount actually added
+     * @throws IllegalStateException if a transaction is open
+     * @since 3.0
+     */
+    public long addTicks(FuelVariant resource, long ticks) {
+        StoragePreconditions.notBlankNotNegative(resource, ticks);
+        checkNoTransaction();
+        var oldVariant = this.variant;
+        var oldAmount = this.amount;
+        var added = insertNow(resource, ticks, null, true);
+        if (added > 0L) {
+            onFinalCommit();
+            BurningListeners.fire(this.listeners, this, oldVariant, oldAmount, this.variant, this.amount);
+        }
+        return added;
+    }
+
+    /**
+     * Consume up to {@code ticks} burning ticks directly, as if extracted within a
+     * committed transaction, {@link #onFinalCommit()} and listeners included. Meant for the
+     * owner of this storage, for example in its {@code tick()}.
+     *
+     * @param ticks a non-negative amount
+     * @return the amount actually consumed
+     * @throws IllegalStateException if a transaction is open
+     * @since 3.0
+     */
+    public long consumeTicks(long ticks) {
+        StoragePreconditions.notNegative(ticks);
+        checkNoTransaction();
+        if (this.variant.isBlank())
+            return 0L;
+        var oldVariant = this.variant;
+        var oldAmount = this.amount;
+        var consumed = extractNow(this.variant, ticks, null, true);
+        if (consumed > 0L) {
+            onFinalCommit();
+            BurningListeners.fire(this.listeners, this, oldVariant, oldAmount, this.variant, this.amount);
+        }
+        return consumed;
+    }
+
+    private static void checkNoTransaction() {
+        if (Transaction.isOpen())
+            throw new IllegalStateException("Burning storages cannot be mutated directly while a transaction is open");
+    }
+
+    // BurningRateLimited
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Limits are refilled from the clock given on construction, and do not
+     * apply to {@link #addTicks(FuelVariant, long)}.
+     *
+     * @throws IllegalStateException if this storage was constructed without a
+     *                               clock
+     * @since 3.0
+     */
+    @Override
+    public void setRateLimit(@Nullable Direction side, long rate, long burst) {
+        if (this.clock == NO_CLOCK)
+            throw new IllegalStateException("Burning storages without a clock cannot be rate limited");
+        if (this.limits == null)
+            this.limits = new RateLimits<>(this, this.clock, this::insert);
+        this.limits.set(side, rate, burst);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 3.0
+     */
+    @Override
+    public void removeRateLimit(@Nullable Direction side) {
+        if (this.limits != null)
+            this.limits.remove(side);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 3.0
+     */
+    @Override
+    public boolean isRateLimited() {
+        return this.limits != null && !this.limits.isEmpty();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 3.0
+     */
+    @Override
+    public Storage<FuelVariant> forSide(@Nullable Direction side) {
+        return this.limits == null ? this : this.limits.forSide(side);
+    }
+
+    // SnapshotParticipant
+
+    /**
+     * Records the current variant and amount in the shared journal, unless
+     * already recorded within {@code transaction}, or, if any snapshot method is
+     * overridden, takes a snapshot as usual.
+     *
+     * @param transaction a non-null open transaction
+     * @since 3.0
+     */
+    @Override
+    public void updateSnapshots(TransactionContext transaction) {
+        if (this.snapshotting) {
+            super.updateSnapshots(transaction);
+            // The journal is then only needed to notify listeners
+            if (this.listeners.length == 0)
+                return;
+        }
+        BurningJournal.record(this.journal, transaction);
+    }
+
+    // ListenableBurningStorage
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 3.0
+     */
+    @Override
+    public void addListener(BurningStorageListener listener) {
+        this.listeners = BurningListeners.add(this.listeners, listener);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 3.0
+     */
+    @Override
+    public void removeListener(BurningStorageListener listener) {
+        this.listeners = BurningListeners.remove(this.listeners, listener);
+    }
+
+    private final class Journal implements BurningJournal.Entry {
+
+        private long frame = 0L;
+
+        /*
+         * State recorded before the committing transaction, when listened
+         */
+        private boolean listenedCommit = false;
+
+        private int listenedKey;
+
+        private long listenedValue;
+
+        @Override
+        public long getJournalFrame() {
+            return this.frame;
+        }
+
+        @Override
+        public void setJournalFrame(long frame) {
+            this.frame = frame;
+        }
+
+        @Override
+        public int getJournalKey() {
+            return BurningJournal.keyOf(SimpleBurningStorage.this.variant);
+        }
+
+        @Override
+        public long getJournalValue() {
+            return SimpleBurningStorage.this.amount;
+        }
+
+        @Override
+        public void restoreJournal(int key, long value) {
+            SimpleBurningStorage.this.variant = BurningJournal.variantOf(key);
+            SimpleBurningStorage.this.amount = value;
+        }
+
+        @Override
+        public void beforeJournalCommit(int key, long value) {
+            if (SimpleBurningStorage.this.listeners.length > 0) {
+                this.listenedCommit = true;
+                this.listenedKey = key;
+                this.listenedValue = value;
+            }
+        }
+
+        @Override
+        public void onJournalCommit() {
+            // Snapshotting subclasses are notified by SnapshotParticipant already
+            if (!SimpleBurningStorage.this.snapshotting)
+                onFinalCommit();
+            if (this.listenedCommit) {
+                this.listenedCommit = false;
+                BurningListeners.fire(SimpleBurningStorage.this.listeners, SimpleBurningStorage.this,
+                        BurningJournal.variantOf(this.listenedKey), this.listenedValue,
+                        SimpleBurningStorage.this.variant, SimpleBurningStorage.this.amount);
+            }
+        }
+    }
 }
@@ -2,13 +2,13 @@ package niv.burning.impl;
 
 import org.jetbrains.annotations.ApiStatus.Internal;
 
-import net.minecraft.world.item.Item;
+import niv.burning.api.FuelVariant;
 import niv.burning.api.base.BurningStorageBlockEntity;
 
 @Internal
 public interface AbstractFurnaceBlockEntityExtension extends BurningStorageBlockEntity {
 
-    Item getInternalBurningFuel();
+    FuelVariant getInternalBurningFuel();
 
-    void setInternalBurningFuel(Item fuel);
+    void setInternalBurningFuel(FuelVariant fuel);
 }
@@ -5,23 +5,44 @@ import static java.lang.Math.clamp;
 import java.util.Collections;
 import java.util.Iterator;
 
+import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.Nullable;
+
+import net.fabricmc.fabric.api.transfer.v1.storage.Storage;
 import net.fabricmc.fabric.api.transfer.v1.storage.StoragePreconditions;
 import net.fabricmc.fabric.api.transfer.v1.storage.StorageView;
 import net.fabricmc.fabric.api.transfer.v1.storage.base.InsertionOnlyStorage;
-import net.fabricmc.fabric.api.transfer.v1.storage.base.ResourceAmount;
 import net.fabricmc.fabric.api.transfer.v1.storage.base.SingleSlotStorage;
 import net.fabricmc.fabric.api.transfer.v1.transaction.TransactionContext;
-import net.fabricmc.fabric.api.transfer.v1.transaction.base.SnapshotParticipant;
+import net.minecraft.core.Direction;
 import net.minecraft.world.level.block.entity.BlockEntity;
+import niv.burning.api.BurningRateLimited;
+import niv.burning.api.BurningStorageListener;
 import niv.burning.api.FuelVariant;
-import niv.burning.api.base.BurningStorageBlockEntity;
+import niv.burning.api.ListenableBurningStorage;
 
-abstract class AbstractFurnaceStorage<T extends BlockEntity>
-        extends SnapshotParticipant<ResourceAmount<FuelVariant>>
-        implements SingleSlotStorage<FuelVariant>, InsertionOnlyStorage<FuelVariant> {
+@Internal
+public abstract class AbstractFurnaceStorage<T extends BlockEntity>
+        implements SingleSlotStorage<FuelVariant>, InsertionOnlyStorage<FuelVariant>, BurningRateLimited,
+        ListenableBurningStorage, BurningJournal.Entry {
 
     protected final T target;
 
+    private long journalFrame = 0L;
+
+    private @Nullable RateLimits<AbstractFurnaceStorage<T>> limits = null;
+
+    private BurningStorageListener[] listeners = BurningListeners.EMPTY;
+
+    /*
+     * State recorded before the committing transaction, when listened
+     */
+    private boolean listenedCommit = false;
+
+    private int listenedKey;
+
+    private long listenedValue;
+
     AbstractFurnaceStorage(T target) {
         this.target = target;
     }
@@ -47,8 +68,17 @@ abstract class AbstractFurnaceStorage<T extends BlockEntity>
 
     @Override
     public long insert(FuelVariant resource, long maxAmount, TransactionContext transaction) {
+        return insert(resource, maxAmount, transaction, null);
+    }
+
+    private long insert(FuelVariant resource, long maxAmount, TransactionContext transaction,
+            @Nullable Direction side) {
         StoragePreconditions.notBlankNotNegative(resource, maxAmount);
 
+        var limits = this.limits;
+        if (limits != null)
+            maxAmount = Math.min(maxAmount, limits.available(side));
+
         var oldCapacity = getCapacity();
         var newCapacity = resource.getDuration();
         var oldAmount = getAmount();
@@ -56,7 +86,7 @@ abstract class AbstractFurnaceStorage<T extends BlockEntity>
         if (newAmount <= oldAmount)
             return 0L;
 
-        updateSnapshots(transaction);
+        BurningJournal.record(this, transaction);
 
         if (newAmount > oldCapacity)
             setResource(resource);
@@ -65,6 +95,9 @@ abstract class AbstractFurnaceStorage<T extends BlockEntity>
         if (getAmount() <= 0)
             setResource(FuelVariant.BLANK);
 
+        if (limits != null)
+            limits.consume(side, newAmount - oldAmount, transaction);
+
         return newAmount - oldAmount;
     }
 
@@ -83,22 +116,101 @@ abstract class AbstractFurnaceStorage<T extends BlockEntity>
         return Collections.emptyIterator();
     }
 
+    void restore(FuelVariant resource, long amount) {
+        setResource(resource);
+        setAmount(amount);
+    }
+
+    protected void onFinalCommit() {
+        if (this.target.hasLevel())
+            FurnaceUpdates.schedule(this);
+    }
+
+    private long gameTime() {
+        var level = this.target.getLevel();
+        return level == null ? -1L : level.getGameTime();
+    }
+
+    // BurningRateLimited
+
     @Override
-    protected ResourceAmount<FuelVariant> createSnapshot() {
-        return new ResourceAmount<>(getResource(), getAmount());
+    public void setRateLimit(@Nullable Direction side, long rate, long burst) {
+        if (this.limits == null)
+            this.limits = new RateLimits<>(this, this::gameTime, this::insert);
+        this.limits.set(side, rate, burst);
     }
 
     @Override
-    protected void readSnapshot(ResourceAmount<FuelVariant> snapshot) {
-        setResource(snapshot.resource());
-        setAmount(snapshot.amount());
+    public void removeRateLimit(@Nullable Direction side) {
+        if (this.limits != null)
+            this.limits.remove(side);
     }
 
     @Override
-    protected void onFinalCommit() {
-        if (this.target.hasLevel()) {
-            BurningStorageBlockEntity.tryUpdateLitProperty(target, getAmount() > 0);
-            this.target.setChanged();
+    public boolean isRateLimited() {
+        return this.limits != null && !this.limits.isEmpty();
+    }
+
+    @Override
+    public Storage<FuelVariant> forSide(@Nullable Direction side) {
+        return this.limits == null ? this : this.limits.forSide(side);
+    }
+
+    // ListenableBurningStorage
+
+    @Override
+    public void addListener(BurningStorageListener listener) {
+        this.listeners = BurningListeners.add(this.listeners, listener);
+    }
+
+    @Override
+    public void removeListener(BurningStorageListener listener) {
+        this.listeners = BurningListeners.remove(this.listeners, listener);
+    }
+
+    // BurningJournal.Entry
+
+    @Override
+    public long getJournalFrame() {
+        return this.journalFrame;
+    }
+
+    @Override
+    public void setJournalFrame(long frame) {
+        this.journalFrame = frame;
+    }
+
+    @Override
+    public int getJournalKey() {
+        return BurningJournal.keyOf(getResource());
+    }
+
+    @Override
+    public long getJournalValue() {
+        return getAmount();
+    }
+
+    @Override
+    public void restoreJournal(int key, long value) {
+        restore(BurningJournal.variantOf(key), value);
+    }
+
+    @Override
+    public void beforeJournalCommit(int key, long value) {
+        if (this.listeners.length > 0) {
+            this.listenedCommit = true;
+            this.listenedKey = key;
+            this.listenedValue = value;
+        }
+    }
+
+    @Override
+    public void onJournalCommit() {
+        onFinalCommit();
+        if (this.listenedCommit) {
+            this.listenedCommit = false;
+            BurningListeners.fire(this.listeners, this,
+                    BurningJournal.variantOf(this.listenedKey), this.listenedValue, getResource(), getAmount());
         }
     }
 }
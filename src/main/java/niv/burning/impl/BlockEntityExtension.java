@@ -0,0 +1,16 @@
+package niv.burning.impl;
+
+import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.Nullable;
+
+import net.fabricmc.fabric.api.transfer.v1.storage.Storage;
+import niv.burning.api.FuelVariant;
+
+@Internal
+public interface BlockEntityExtension {
+
+    @Nullable
+    Storage<FuelVariant> getInternalDynamicStorage();
+
+    void setInternalDynamicStorage(@Nullable Storage<FuelVariant> storage);
+}
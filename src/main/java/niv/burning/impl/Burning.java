@@ -7,7 +7,13 @@ import org.jetbrains.annotations.ApiStatus.Internal;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.base.Suppliers;
+
+import net.fabricmc.fabric.api.event.lifecycle.v1.CommonLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerBlockEntityEvents;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerWorldEvents;
 import net.fabricmc.fabric.api.event.registry.DynamicRegistries;
 import net.minecraft.core.HolderLookup;
 import net.minecraft.core.Registry;
@@ -15,7 +21,8 @@ import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.world.flag.FeatureFlagSet;
 import net.minecraft.world.flag.FeatureFlags;
 import net.minecraft.world.level.block.entity.FuelValues;
-import niv.burning.api.BurningStorage;
+import niv.burning.api.FuelSnapshot;
+import niv.burning.api.FuelValuesEvents;
 
 @Internal
 public final class Burning {
@@ -26,20 +33,22 @@ public final class Burning {
 
     static final Logger LOGGER;
 
-    static Supplier<FuelValues> fuelValuesGetter;
+    private static final Supplier<FuelValues> VANILLA_FUEL_VALUES;
+
+    static volatile Supplier<FuelValues> fuelValuesGetter;
+
+    static volatile FuelTable fuelTable;
 
     static {
         MOD_ID = "burning";
         MOD_NAME = "Burning";
         LOGGER = LoggerFactory.getLogger(MOD_NAME);
 
-        fuelValuesGetter = () -> {
-            final var getter = FuelValues.vanillaBurnTimes(HolderLookup.Provider.create(
-                    Stream.of(BuiltInRegistries.ITEM)),
-                    FeatureFlagSet.of(FeatureFlags.VANILLA));
-            fuelValuesGetter = () -> getter;
-            return getter;
-        };
+        VANILLA_FUEL_VALUES = Suppliers.memoize(() -> FuelValues.vanillaBurnTimes(HolderLookup.Provider.create(
+                Stream.of(BuiltInRegistries.ITEM)),
+                FeatureFlagSet.of(FeatureFlags.VANILLA)));
+
+        fuelValuesGetter = VANILLA_FUEL_VALUES;
 
         /*
          * Register a dynamic registry for DynamicBurningStorageProvider.
@@ -47,18 +56,85 @@ public final class Burning {
         DynamicRegistries.register(DynamicFurnaceStorageProvider.REGISTRY, DynamicFurnaceStorageProvider.CODEC);
 
         /*
-         * Register as providers all loaded DynamicBurningStorageProviders.
+         * Rebuild the blacklist every time tags are loaded.
+         */
+        CommonLifecycleEvents.TAGS_LOADED.register((registries, client) -> BurningBlacklist.update(registries));
+
+        /*
+         * Dispatch lookups to all loaded DynamicBurningStorageProviders.
          */
-        ServerLifecycleEvents.SERVER_STARTING.register(server -> server.registryAccess()
+        ServerLifecycleEvents.SERVER_STARTING.register(server -> BurningStorageDispatcher.update(server
+                .registryAccess()
                 .lookup(DynamicFurnaceStorageProvider.REGISTRY).stream()
-                .flatMap(Registry::stream)
-                .forEach(provider -> BurningStorage.SIDED
-                        .registerForBlockEntity(provider::getBurningStorage, provider.type)));
+                .flatMap(Registry::stream)));
+
+        /*
+         * Register the dispatcher for BurningStorageBlockEntity types, once the
+         * registries are frozen, on clients too.
+         */
+        CommonLifecycleEvents.TAGS_LOADED.register((registries, client) -> BurningStorageDispatcher.scan());
+
+        /*
+         * Keep the per-level burning storage indexes up to date.
+         */
+        ServerBlockEntityEvents.BLOCK_ENTITY_LOAD.register(LevelBurningStorageIndex::onLoad);
+        ServerBlockEntityEvents.BLOCK_ENTITY_UNLOAD.register(LevelBurningStorageIndex::onUnload);
+        ServerWorldEvents.UNLOAD.register((server, level) -> LevelBurningStorageIndex.onLevelUnload(level));
+
+        /*
+         * Run scheduled burning transfers once per tick.
+         */
+        ServerTickEvents.END_WORLD_TICK.register(LevelBurningTransferScheduler::tick);
+        ServerWorldEvents.UNLOAD.register((server, level) -> LevelBurningTransferScheduler.onLevelUnload(level));
+
+        /*
+         * Advance burning timers once per tick, and drop those of unloaded block
+         * entities.
+         */
+        ServerTickEvents.END_WORLD_TICK.register(LevelBurningTimers::tick);
+        ServerBlockEntityEvents.BLOCK_ENTITY_UNLOAD.register(LevelBurningTimers::onUnload);
+        ServerWorldEvents.UNLOAD.register((server, level) -> LevelBurningTimers.onLevelUnload(level));
+
+        /*
+         * Balance burning networks once per tick, before deferred furnace updates
+         * are applied.
+         */
+        ServerTickEvents.END_WORLD_TICK.register(LevelBurningNetworks::tick);
+        ServerWorldEvents.UNLOAD.register((server, level) -> LevelBurningNetworks.onLevelUnload(level));
+
+        /*
+         * Apply deferred furnace updates at the end of each level tick, and before
+         * the levels are saved on shutdown.
+         */
+        ServerTickEvents.END_WORLD_TICK.register(FurnaceUpdates::flush);
+        ServerLifecycleEvents.SERVER_STOPPING.register(server -> FurnaceUpdates.flushAll());
+        ServerWorldEvents.UNLOAD.register((server, level) -> FurnaceUpdates.discard(level));
 
         /*
          * Capture the server-scoped fuel values
          */
-        ServerLifecycleEvents.SERVER_STARTED.register(server -> fuelValuesGetter = server::fuelValues);
+        ServerLifecycleEvents.SERVER_STARTED.register(server -> {
+            fuelValuesGetter = server::fuelValues;
+            updateFuelTable(server.fuelValues());
+        });
+
+        /*
+         * Rebuild the fuel table after data packs reload
+         */
+        ServerLifecycleEvents.END_DATA_PACK_RELOAD.register((server, resources, success) -> {
+            if (success)
+                updateFuelTable(server.fuelValues());
+        });
+
+        /*
+         * Drop the server-scoped providers and fall back to the vanilla fuel values
+         * once the server is gone
+         */
+        ServerLifecycleEvents.SERVER_STOPPED.register(server -> {
+            BurningStorageDispatcher.clear();
+            fuelValuesGetter = VANILLA_FUEL_VALUES;
+            updateFuelTable(VANILLA_FUEL_VALUES.get());
+        });
     }
 
     private Burning() {
@@ -71,4 +147,37 @@ public final class Burning {
     static final FuelValues fuelValues() {
         return fuelValuesGetter.get();
     }
+
+    /**
+     * Returns the current fuel snapshot, safe to call from any thread.
+     *
+     * @return a non-null, immutable fuel snapshot
+     */
+    public static final FuelSnapshot fuelSnapshot() {
+        return fuelTable();
+    }
+
+    static final FuelTable fuelTable() {
+        var table = fuelTable;
+        if (table == null) {
+            synchronized (Burning.class) {
+                table = fuelTable;
+                if (table == null)
+                    fuelTable = table = FuelTable.of(fuelValues(), null);
+            }
+        }
+        return table;
+    }
+
+    private static final void updateFuelTable(FuelValues values) {
+        FuelTable previous;
+        FuelTable table;
+        synchronized (Burning.class) {
+            previous = fuelTable;
+            table = FuelTable.of(values, previous);
+            fuelTable = table;
+        }
+        // Listeners are notified outside of the lock, as they may take it again
+        FuelValuesEvents.CHANGED.invoker().onFuelValuesChanged(table.getGeneration(), table.changedSince(previous));
+    }
 }
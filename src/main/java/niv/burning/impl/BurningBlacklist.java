@@ -0,0 +1,54 @@
+package niv.burning.impl;
+
+import java.util.BitSet;
+
+import org.jetbrains.annotations.ApiStatus.Internal;
+
+import net.minecraft.core.RegistryAccess;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.world.level.block.Block;
+import niv.burning.api.BurningTags;
+
+/**
+ * Immutable view of the {@link BurningTags#BLACKLIST} tag, indexed by the
+ * blocks raw id and stamped with a generation increased on each tags load.
+ */
+@Internal
+public final class BurningBlacklist {
+
+    private static volatile BurningBlacklist current = new BurningBlacklist(0, new BitSet());
+
+    private final int generation;
+
+    private final BitSet blocks;
+
+    private BurningBlacklist(int generation, BitSet blocks) {
+        this.generation = generation;
+        this.blocks = blocks;
+    }
+
+    public int getGeneration() {
+        return this.generation;
+    }
+
+    public boolean contains(Block block) {
+        var id = BuiltInRegistries.BLOCK.getId(block);
+        return id >= 0 && this.blocks.get(id);
+    }
+
+    public static BurningBlacklist get() {
+        return current;
+    }
+
+    static synchronized void update(RegistryAccess registries) {
+        var blocks = new BitSet(BuiltInRegistries.BLOCK.size());
+        for (var holder : registries.lookupOrThrow(Registries.BLOCK).getTagOrEmpty(BurningTags.BLACKLIST)) {
+            var id = BuiltInRegistries.BLOCK.getId(holder.value());
+            if (id >= 0)
+                blocks.set(id);
+        }
+        // Generations fit in 31 bits, so that they can be cached along a flag
+        current = new BurningBlacklist((current.generation + 1) & Integer.MAX_VALUE, blocks);
+    }
+}
@@ -0,0 +1,260 @@
+package niv.burning.impl;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jetbrains.annotations.ApiStatus.Internal;
+
+import net.fabricmc.fabric.api.transfer.v1.transaction.TransactionContext;
+import net.fabricmc.fabric.api.transfer.v1.transaction.TransactionContext.CloseCallback;
+import net.fabricmc.fabric.api.transfer.v1.transaction.TransactionContext.OuterCloseCallback;
+import net.fabricmc.fabric.api.transfer.v1.transaction.TransactionContext.Result;
+import net.minecraft.core.registries.BuiltInRegistries;
+import niv.burning.api.FuelVariant;
+
+/**
+ * Per-thread undo journal shared by all burning storages, in place of one
+ * {@code SnapshotParticipant} snapshot list per storage.
+ *
+ * <p>
+ * The journal keeps a stack of frames, one per nesting depth with at least one
+ * modified storage, and records the storage, the raw id of its variant, and its
+ * amount the first time a storage is modified within a frame. Aborting a frame
+ * walks its entries backwards restoring them, committing a nested frame merges
+ * its entries into the parent one, and committing the outer frame notifies each
+ * modified storage once after the transaction is closed.
+ *
+ * <p>
+ * Storages only keep the id of the last frame they were recorded in, which is
+ * enough to skip recording them twice in the same frame, as frame ids only
+ * ever increase and a merged entry carries an id greater than its new frame.
+ */
+@Internal
+public final class BurningJournal implements CloseCallback, OuterCloseCallback {
+
+    private static final AtomicLong FRAME_IDS = new AtomicLong();
+
+    private static final ThreadLocal<BurningJournal> JOURNALS = ThreadLocal.withInitial(BurningJournal::new);
+
+    private static final int BLANK_KEY = -1;
+
+    private Entry[] entries = new Entry[16];
+
+    private int[] keys = new int[16];
+
+    private long[] values = new long[16];
+
+    private int size = 0;
+
+    private long[] frameIds = new long[4];
+
+    private int[] frameDepths = new int[4];
+
+    private int[] frameStarts = new int[4];
+
+    private int frames = 0;
+
+    private Entry[] committed = new Entry[16];
+
+    private int committedSize = 0;
+
+    private Entry[] spare = new Entry[16];
+
+    private BurningJournal() {
+    }
+
+    /**
+     * Records the current state of {@code entry}, unless already recorded within
+     * the innermost frame of {@code transaction}.
+     *
+     * @param entry       a non-null entry about to be modified
+     * @param transaction a non-null open transaction
+     */
+    public static void record(Entry entry, TransactionContext transaction) {
+        JOURNALS.get().add(entry, transaction);
+    }
+
+    /**
+     * Return the key of {@code variant}, that is the raw id of its item.
+     *
+     * @param variant a non-null fuel variant
+     * @return a raw item id, or a negative integer if blank
+     */
+    public static int keyOf(FuelVariant variant) {
+        return variant.isBlank() ? BLANK_KEY : BuiltInRegistries.ITEM.getId(variant.getFuel());
+    }
+
+    /**
+     * Return the variant whose key is {@code key}.
+     *
+     * @param key a key returned by {@link #keyOf(FuelVariant)}
+     * @return a non-null fuel variant
+     */
+    public static FuelVariant variantOf(int key) {
+        var item = key < 0 ? null : BuiltInRegistries.ITEM.byId(key);
+        return item == null ? FuelVariant.BLANK : FuelVariant.of(item);
+    }
+
+    private void add(Entry entry, TransactionContext transaction) {
+        var depth = transaction.nestingDepth();
+        if (this.frames == 0 || this.frameDepths[this.frames - 1] != depth) {
+            pushFrame(FRAME_IDS.incrementAndGet(), depth, this.size);
+            transaction.addCloseCallback(this);
+        }
+
+        var frameId = this.frameIds[this.frames - 1];
+        if (entry.getJournalFrame() >= frameId)
+            return;
+        entry.setJournalFrame(frameId);
+
+        if (this.size == this.entries.length) {
+            var length = this.size * 2;
+            this.entries = Arrays.copyOf(this.entries, length);
+            this.keys = Arrays.copyOf(this.keys, length);
+            this.values = Arrays.copyOf(this.values, length);
+        }
+        this.entries[this.size] = entry;
+        this.keys[this.size] = entry.getJournalKey();
+        this.values[this.size] = entry.getJournalValue();
+        this.size++;
+    }
+
+    private void pushFrame(long id, int depth, int start) {
+        if (this.frames == this.frameIds.length) {
+            var length = this.frames * 2;
+            this.frameIds = Arrays.copyOf(this.frameIds, length);
+            this.frameDepths = Arrays.copyOf(this.frameDepths, length);
+            this.frameStarts = Arrays.copyOf(this.frameStarts, length);
+        }
+        this.frameIds[this.frames] = id;
+        this.frameDepths[this.frames] = depth;
+        this.frameStarts[this.frames] = start;
+        this.frames++;
+    }
+
+    // CloseCallback
+
+    @Override
+    public void onClose(TransactionContext transaction, Result result) {
+        var depth = transaction.nestingDepth();
+        var top = --this.frames;
+        var id = this.frameIds[top];
+        var start = this.frameStarts[top];
+
+        if (result.wasAborted()) {
+            for (var i = this.size - 1; i >= start; i--) {
+                var entry = this.entries[i];
+                entry.setJournalFrame(0L);
+                entry.restoreJournal(this.keys[i], this.values[i]);
+                this.entries[i] = null;
+            }
+            this.size = start;
+        } else if (depth > 0) {
+            // Entries stay where they are, either merged into the parent frame or
+            // moved into a new one
+            if (this.frames == 0 || this.frameDepths[this.frames - 1] != depth - 1) {
+                pushFrame(id, depth - 1, start);
+                transaction.getOpenTransaction(depth - 1).addCloseCallback(this);
+            }
+        } else {
+            // Collect each entry once, marking it with the negated frame id; the
+            // first occurrence of an entry holds its state before the transaction
+            for (var i = start; i < this.size; i++) {
+                var entry = this.entries[i];
+                if (entry.getJournalFrame() != -id) {
+                    entry.setJournalFrame(-id);
+                    entry.beforeJournalCommit(this.keys[i], this.values[i]);
+                    addCommitted(entry);
+                }
+                this.entries[i] = null;
+            }
+            this.size = start;
+            transaction.addOuterCloseCallback(this);
+        }
+    }
+
+    private void addCommitted(Entry entry) {
+        if (this.committedSize == this.committed.length)
+            this.committed = Arrays.copyOf(this.committed, this.committedSize * 2);
+        this.committed[this.committedSize++] = entry;
+    }
+
+    // OuterCloseCallback
+
+    @Override
+    public void afterOuterClose(Result result) {
+        // Swap arrays, as storages may open and commit new transactions
+        var current = this.committed;
+        var count = this.committedSize;
+        this.committed = this.spare == null ? new Entry[current.length] : this.spare;
+        this.committedSize = 0;
+        this.spare = null;
+        try {
+            for (var i = 0; i < count; i++)
+                current[i].onJournalCommit();
+        } finally {
+            Arrays.fill(current, 0, count, null);
+            if (this.spare == null)
+                this.spare = current;
+        }
+    }
+
+    /**
+     * A storage whose state is recorded by the journal.
+     */
+    @Internal
+    public interface Entry {
+
+        /**
+         * Return the id of the last frame this entry was recorded in.
+         *
+         * @return a frame id, or zero if never recorded
+         */
+        long getJournalFrame();
+
+        /**
+         * Set the id of the last frame this entry was recorded in.
+         *
+         * @param frame a frame id
+         */
+        void setJournalFrame(long frame);
+
+        /**
+         * Return the key of the current variant, see {@link BurningJournal#keyOf}.
+         *
+         * @return an integer
+         */
+        int getJournalKey();
+
+        /**
+         * Return the current amount.
+         *
+         * @return a long
+         */
+        long getJournalValue();
+
+        /**
+         * Restore the variant and the amount recorded when aborting.
+         *
+         * @param key   a key, see {@link BurningJournal#variantOf}
+         * @param value an amount
+         */
+        void restoreJournal(int key, long value);
+
+        /**
+         * Called once when the outer transaction is about to commit, with the
+         * variant and the amount recorded before the transaction modified this
+         * entry.
+         *
+         * @param key   a key, see {@link BurningJournal#variantOf}
+         * @param value an amount
+         */
+        default void beforeJournalCommit(int key, long value) {
+        }
+
+        /**
+         * Called once after the outer transaction is committed.
+         */
+        void onJournalCommit();
+    }
+}
@@ -0,0 +1,56 @@
+package niv.burning.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+
+import org.jetbrains.annotations.ApiStatus.Internal;
+
+import net.fabricmc.fabric.api.transfer.v1.storage.Storage;
+import niv.burning.api.BurningStorageListener;
+import niv.burning.api.FuelVariant;
+
+/**
+ * Copy-on-write operations over the listener arrays of burning storages.
+ */
+@Internal
+public final class BurningListeners {
+
+    public static final BurningStorageListener[] EMPTY = new BurningStorageListener[0];
+
+    private BurningListeners() {
+    }
+
+    public static BurningStorageListener[] add(BurningStorageListener[] listeners, BurningStorageListener listener) {
+        requireNonNull(listener);
+        for (var current : listeners)
+            if (current == listener)
+                return listeners;
+        var result = Arrays.copyOf(listeners, listeners.length + 1);
+        result[listeners.length] = listener;
+        return result;
+    }
+
+    public static BurningStorageListener[] remove(BurningStorageListener[] listeners,
+            BurningStorageListener listener) {
+        for (var i = 0; i < listeners.length; i++) {
+            if (listeners[i] == listener) {
+                if (listeners.length == 1)
+                    return EMPTY;
+                var result = new BurningStorageListener[listeners.length - 1];
+                System.arraycopy(listeners, 0, result, 0, i);
+                System.arraycopy(listeners, i + 1, result, i, result.length - i);
+                return result;
+            }
+        }
+        return listeners;
+    }
+
+    public static void fire(BurningStorageListener[] listeners, Storage<FuelVariant> storage,
+            FuelVariant oldResource, long oldAmount, FuelVariant newResource, long newAmount) {
+        if (oldAmount == newAmount && oldResource.equals(newResource))
+            return;
+        for (var listener : listeners)
+            listener.onBurningChanged(storage, oldResource, oldAmount, newResource, newAmount);
+    }
+}
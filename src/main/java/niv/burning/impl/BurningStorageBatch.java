@@ -0,0 +1,121 @@
+package niv.burning.impl;
+
+import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.Nullable;
+
+import it.unimi.dsi.fastutil.Swapper;
+import it.unimi.dsi.fastutil.ints.IntComparator;
+import net.fabricmc.fabric.api.transfer.v1.storage.Storage;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.core.SectionPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.chunk.LevelChunk;
+import niv.burning.api.BurningStorage;
+import niv.burning.api.FuelVariant;
+
+/**
+ * Resolves many {@link BurningStorage#SIDED} lookups at once, visiting
+ * positions grouped by chunk section so that each chunk and each section is
+ * resolved only once.
+ */
+@Internal
+public final class BurningStorageBatch implements IntComparator, Swapper {
+
+    private static final ThreadLocal<BurningStorageBatch> SCRATCH = ThreadLocal.withInitial(BurningStorageBatch::new);
+
+    private int[] indices = new int[0];
+
+    private long[] keys = new long[0];
+
+    private BurningStorageBatch() {
+    }
+
+    public static void findAll(ServerLevel level, BlockPos[] positions, @Nullable Direction[] sides,
+            @Nullable Storage<FuelVariant>[] results, int offset, int count) {
+        if (offset < 0 || count < 0 || offset + count < 0 || offset + count > positions.length
+                || offset + count > sides.length || offset + count > results.length)
+            throw new IllegalArgumentException("Range out of bounds: offset=" + offset + ", count=" + count
+                    + ", positions=" + positions.length + ", sides=" + sides.length
+                    + ", results=" + results.length);
+        if (!level.getServer().isSameThread())
+            throw new IllegalStateException("Burning storages can only be looked up on the server thread");
+
+        var batch = SCRATCH.get();
+        batch.prepare(positions, offset, count);
+        batch.resolve(level, positions, sides, results, count);
+    }
+
+    private void prepare(BlockPos[] positions, int offset, int count) {
+        if (this.indices.length < count) {
+            this.indices = new int[count];
+            this.keys = new long[count];
+        }
+        for (var i = 0; i < count; i++) {
+            var pos = positions[offset + i];
+            this.indices[i] = offset + i;
+            this.keys[i] = SectionPos.asLong(
+                    SectionPos.blockToSectionCoord(pos.getX()),
+                    SectionPos.blockToSectionCoord(pos.getY()),
+                    SectionPos.blockToSectionCoord(pos.getZ()));
+        }
+        it.unimi.dsi.fastutil.Arrays.quickSort(0, count, this, this);
+    }
+
+    private void resolve(ServerLevel level, BlockPos[] positions, @Nullable Direction[] sides,
+            @Nullable Storage<FuelVariant>[] results, int count) {
+        var chunkSource = level.getChunkSource();
+        LevelChunk chunk = null;
+        var chunkKey = 0L;
+        var sectionKey = 0L;
+        var emptySection = true;
+        for (var i = 0; i < count; i++) {
+            var key = this.keys[i];
+            var index = this.indices[i];
+            var pos = positions[index];
+
+            if (i == 0 || key != sectionKey) {
+                sectionKey = key;
+                // Section keys hold y in their lowest 20 bits, x and z above
+                if (i == 0 || (key >> 20) != chunkKey) {
+                    chunkKey = key >> 20;
+                    chunk = chunkSource.getChunkNow(
+                            SectionPos.blockToSectionCoord(pos.getX()),
+                            SectionPos.blockToSectionCoord(pos.getZ()));
+                }
+                emptySection = chunk == null || isEmptySection(chunk, pos.getY());
+            }
+
+            if (emptySection) {
+                results[index] = null;
+                continue;
+            }
+
+            var state = chunk.getBlockState(pos);
+            var entity = state.hasBlockEntity() ? chunk.getBlockEntity(pos) : null;
+            results[index] = BurningStorage.SIDED.find(level, pos, state, entity, sides[index]);
+        }
+    }
+
+    private static boolean isEmptySection(LevelChunk chunk, int y) {
+        var index = chunk.getSectionIndex(y);
+        return index < 0 || index >= chunk.getSectionsCount() || chunk.getSection(index).hasOnlyAir();
+    }
+
+    // Sort keys and indices together
+
+    @Override
+    public int compare(int a, int b) {
+        return Long.compare(this.keys[a], this.keys[b]);
+    }
+
+    @Override
+    public void swap(int a, int b) {
+        var key = this.keys[a];
+        this.keys[a] = this.keys[b];
+        this.keys[b] = key;
+        var index = this.indices[a];
+        this.indices[a] = this.indices[b];
+        this.indices[b] = index;
+    }
+}
@@ -0,0 +1,164 @@
+package niv.burning.impl;
+
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.Nullable;
+
+import net.fabricmc.fabric.api.transfer.v1.storage.Storage;
+import net.fabricmc.fabric.mixin.lookup.BlockEntityTypeAccessor;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.EntityBlock;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.entity.BlockEntityType;
+import net.minecraft.world.level.block.state.BlockState;
+import niv.burning.api.BurningStorage;
+import niv.burning.api.FuelVariant;
+import niv.burning.api.base.BurningStorageBlockEntity;
+
+/**
+ * Single {@link BurningStorage#SIDED} provider for all block entity types
+ * registered through the {@code burning:dynamic_storage} registry, and for all
+ * block entity types whose instances implement {@link BurningStorageBlockEntity}.
+ *
+ * <p>
+ * Block entity types implementing {@link BurningStorageBlockEntity} are found
+ * once, by scanning the block entity type registry the first time tags are
+ * loaded, on either side, after the registries are frozen. Each block is registered at most once, and never when another
+ * provider already exists for it. Lookups are then dispatched through a table
+ * indexed by the type raw id, which is swapped as a whole every time the
+ * registry is loaded.
+ */
+@Internal
+public final class BurningStorageDispatcher {
+
+    private static final DynamicFurnaceStorageProvider[] EMPTY = new DynamicFurnaceStorageProvider[0];
+
+    private static final Class<?>[] NEW_BLOCK_ENTITY_PARAMETERS = { BlockPos.class, BlockState.class };
+
+    private static boolean scanned = false;
+
+    private static volatile DynamicFurnaceStorageProvider[] providers = EMPTY;
+
+    private static volatile int generation = 0;
+
+    private BurningStorageDispatcher() {
+    }
+
+    /**
+     * Returns a stamp that changes whenever a lookup on an unchanged block entity
+     * might return a different storage, that is when the data pack providers or
+     * the blacklist are reloaded.
+     *
+     * @return the current lookup generation
+     */
+    public static long getGeneration() {
+        return (long) generation << 32 | (BurningBlacklist.get().getGeneration() & 0xFFFFFFFFL);
+    }
+
+    static @Nullable Storage<FuelVariant> find(BlockEntity entity, @Nullable Direction side) {
+        var table = providers;
+        var id = BuiltInRegistries.BLOCK_ENTITY_TYPE.getId(entity.getType());
+        var provider = id >= 0 && id < table.length ? table[id] : null;
+        if (provider != null) {
+            var storage = provider.getBurningStorage(entity, side);
+            if (storage != null)
+                return storage.forSide(side);
+        }
+        return entity instanceof BurningStorageBlockEntity getter ? getter.getBurningStorage(side) : null;
+    }
+
+    static void update(Stream<DynamicFurnaceStorageProvider> stream) {
+        var table = new DynamicFurnaceStorageProvider[BuiltInRegistries.BLOCK_ENTITY_TYPE.size()];
+        stream.forEach(provider -> {
+            var id = BuiltInRegistries.BLOCK_ENTITY_TYPE.getId(provider.type);
+            if (id >= 0 && id < table.length) {
+                table[id] = provider;
+                register(provider.type);
+            }
+        });
+        providers = table;
+        generation++;
+    }
+
+    static void clear() {
+        providers = EMPTY;
+        generation++;
+    }
+
+    /**
+     * Registers this dispatcher for every block entity type whose instances
+     * implement {@link BurningStorageBlockEntity}, the first time it is called.
+     *
+     * <p>
+     * The class of a type is only known by its instances, or by the return type
+     * its {@link EntityBlock} declares; only when the latter is not conclusive is
+     * a throwaway instance of the type created, placed nowhere.
+     */
+    static synchronized void scan() {
+        if (scanned)
+            return;
+        scanned = true;
+        for (var type : BuiltInRegistries.BLOCK_ENTITY_TYPE) {
+            var blocks = ((BlockEntityTypeAccessor) type).getBlocks();
+            if (blocks.isEmpty())
+                continue;
+            var block = blocks.iterator().next();
+            if (!(block instanceof EntityBlock))
+                continue;
+
+            var declared = declaredClassOf(block);
+            if (BurningStorageBlockEntity.class.isAssignableFrom(declared)) {
+                register(type);
+                continue;
+            } else if (Modifier.isFinal(declared.getModifiers())) {
+                continue;
+            }
+
+            BlockEntity entity;
+            try {
+                entity = type.create(BlockPos.ZERO, block.defaultBlockState());
+            } catch (RuntimeException e) {
+                Burning.LOGGER.debug("Skipped block entity type {}",
+                        BuiltInRegistries.BLOCK_ENTITY_TYPE.getKey(type), e);
+                continue;
+            }
+            if (entity instanceof BurningStorageBlockEntity)
+                register(type);
+        }
+    }
+
+    /*
+     * The most specific return type of the newBlockEntity overrides of block,
+     * matched by signature as names are remapped at runtime
+     */
+    private static Class<?> declaredClassOf(Block block) {
+        Class<?> result = BlockEntity.class;
+        for (var method : block.getClass().getMethods()) {
+            var type = method.getReturnType();
+            if (result.isAssignableFrom(type)
+                    && Arrays.equals(method.getParameterTypes(), NEW_BLOCK_ENTITY_PARAMETERS))
+                result = type;
+        }
+        return result;
+    }
+
+    /**
+     * Registers this dispatcher for each block of {@code type}, unless a
+     * provider, this one included, is already registered for that block.
+     *
+     * @param type a non-null block entity type
+     */
+    static synchronized void register(BlockEntityType<?> type) {
+        for (var block : ((BlockEntityTypeAccessor) type).getBlocks()) {
+            if (BurningStorage.SIDED.getProvider(block) == null)
+                BurningStorage.SIDED.registerForBlocks(
+                        (level, pos, state, entity, side) -> entity == null ? null : find(entity, side), block);
+        }
+    }
+}
@@ -1,11 +1,11 @@
 package niv.burning.impl;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
 
 import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.Nullable;
 
+import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import niv.burning.api.FuelVariant;
@@ -13,13 +13,18 @@ import niv.burning.api.FuelVariant;
 @Internal
 public final class DefaultFuelVariant implements FuelVariant {
 
-    private static final Map<Item, DefaultFuelVariant> INTERN = new ConcurrentHashMap<>();
-
     private final Item fuel;
     private final int hashCode;
 
-    DefaultFuelVariant(Item fuel) {
+    /*
+     * Raw id of the fuel, refreshed whenever a FuelTable is built, so that
+     * lookups need neither the registry nor any hashing.
+     */
+    volatile int id;
+
+    DefaultFuelVariant(Item fuel, int id) {
         this.fuel = fuel;
+        this.id = id;
         this.hashCode = Objects.hash(fuel);
     }
 
@@ -30,7 +35,7 @@ public final class DefaultFuelVariant implements FuelVariant {
 
     @Override
     public int getDuration() {
-        return Burning.fuelValues().burnDuration(new ItemStack(fuel));
+        return Burning.fuelTable().getDuration(this.fuel);
     }
 
     @Override
@@ -52,21 +57,47 @@ public final class DefaultFuelVariant implements FuelVariant {
 
     @Internal
     public static FuelVariant of(Item item) {
-        return isFuel(item) ? INTERN.computeIfAbsent(item, DefaultFuelVariant::new) : BLANK;
+        return Burning.fuelTable().getVariant(item);
     }
 
     @Internal
     public static FuelVariant of(ItemStack stack) {
-        return isFuel(stack) ? INTERN.computeIfAbsent(stack.getItem(), DefaultFuelVariant::new) : BLANK;
+        return Burning.fuelTable().getVariant(stack.getItem());
     }
 
     @Internal
     public static boolean isFuel(Item item) {
-        return Burning.fuelValues().isFuel(new ItemStack(item));
+        return Burning.fuelTable().isFuel(item);
     }
 
     @Internal
     public static boolean isFuel(ItemStack stack) {
-        return Burning.fuelValues().isFuel(stack);
+        return Burning.fuelTable().isFuel(stack.getItem());
+    }
+
+    /**
+     * Return the raw id of {@code item}, as cached on the item by the last
+     * {@link FuelTable} built.
+     */
+    static int idOf(Item item) {
+        var variant = ((ItemExtension) item).getInternalFuelVariant();
+        return variant != null ? variant.id : BuiltInRegistries.ITEM.getId(item);
+    }
+
+    /**
+     * Return the interned variant of {@code item}, cached on the item itself.
+     */
+    static @Nullable DefaultFuelVariant interned(Item item) {
+        return ((ItemExtension) item).getInternalFuelVariant();
+    }
+
+    static synchronized DefaultFuelVariant intern(Item item, int id) {
+        var extension = (ItemExtension) item;
+        var variant = extension.getInternalFuelVariant();
+        if (variant == null)
+            extension.setInternalFuelVariant(variant = new DefaultFuelVariant(item, id));
+        else
+            variant.id = id;
+        return variant;
     }
 }
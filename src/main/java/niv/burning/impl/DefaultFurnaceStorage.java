@@ -2,25 +2,54 @@ package niv.burning.impl;
 
 import static java.lang.Math.clamp;
 
+import java.util.Arrays;
+
 import org.jetbrains.annotations.ApiStatus.Internal;
 
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.block.entity.AbstractFurnaceBlockEntity;
+import net.minecraft.world.level.block.entity.FuelValues;
 import niv.burning.api.FuelVariant;
 
 @Internal
 public final class DefaultFurnaceStorage extends AbstractFurnaceStorage<AbstractFurnaceBlockEntity> {
 
+    private static final Class<?>[] BURN_DURATION_PARAMETERS = { FuelValues.class, ItemStack.class };
+
+    /*
+     * Whether a class overrides getBurnDuration, matched by signature as names
+     * are remapped at runtime
+     */
+    private static final ClassValue<Boolean> OVERRIDING = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            for (var current = type; current != AbstractFurnaceBlockEntity.class; current = current.getSuperclass())
+                for (var method : current.getDeclaredMethods())
+                    if (method.getReturnType() == int.class
+                            && Arrays.equals(method.getParameterTypes(), BURN_DURATION_PARAMETERS))
+                        return Boolean.TRUE;
+            return Boolean.FALSE;
+        }
+    };
+
+    private final boolean overriding;
+
     public DefaultFurnaceStorage(AbstractFurnaceBlockEntity target) {
         super(target);
+        this.overriding = OVERRIDING.get(target.getClass());
     }
 
     // AbstractFurnaceStorage
 
     @Override
     protected void setResource(FuelVariant resource) {
-        this.target.setInternalBurningFuel(resource.getFuel());
-        this.target.litTotalTime = this.target.getBurnDuration(Burning.fuelValues(), new ItemStack(resource.getFuel()));
+        this.target.setInternalBurningFuel(resource);
+        if (!this.overriding)
+            this.target.litTotalTime = resource.getDuration();
+        else
+            // A fresh stack, as the override may modify it
+            this.target.litTotalTime = this.target.getBurnDuration(Burning.fuelValues(),
+                    resource.isBlank() ? ItemStack.EMPTY : new ItemStack(resource.getFuel()));
     }
 
     @Override
@@ -36,7 +65,7 @@ public final class DefaultFurnaceStorage extends AbstractFurnaceStorage<Abstract
 
     @Override
     public FuelVariant getResource() {
-        return FuelVariant.of(this.target.getInternalBurningFuel());
+        return this.target.getInternalBurningFuel();
     }
 
     @Override
@@ -1,17 +1,22 @@
 package niv.burning.impl;
 
+import static java.lang.Math.clamp;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.util.Optional;
-import java.util.function.Function;
 
 import com.google.common.collect.ImmutableMap;
 
 abstract class DynamicField {
 
-    private static final ImmutableMap<Class<?>, Function<Field, ? extends DynamicField>> MAP;
+    private static final ImmutableMap<Class<?>, Factory> MAP;
 
     static {
-        MAP = ImmutableMap.<Class<?>, Function<Field, ? extends DynamicField>>builderWithExpectedSize(8)
+        MAP = ImmutableMap.<Class<?>, Factory>builderWithExpectedSize(8)
                 .put(int.class, IntegerField::new).put(Integer.class, IntegerField::new)
                 .put(long.class, LongField::new).put(Long.class, LongField::new)
                 .put(float.class, FloatField::new).put(Float.class, FloatField::new)
@@ -21,127 +26,190 @@ abstract class DynamicField {
 
     protected final Field field;
 
-    private DynamicField(Field field) {
+    protected final MethodHandle getter;
+
+    protected final MethodHandle setter;
+
+    private DynamicField(Field field, MethodHandle getter, MethodHandle setter) {
         this.field = field;
+        this.getter = getter;
+        this.setter = setter;
     }
 
     final String getName() {
         return this.field.getName();
     }
 
-    abstract Double get(Object target);
+    abstract long get(Object target);
 
-    abstract void set(Object target, Double value);
+    abstract void set(Object target, long value);
 
+    /**
+     * Creates a dynamic field backed by method handles adapted to primitive
+     * signatures, so that accessing it neither boxes nor allocates.
+     *
+     * @param field an accessible field
+     * @return a dynamic field if the type of {@code field} is supported, empty
+     *         otherwise
+     */
     static final Optional<DynamicField> of(Field field) {
-        return Optional.ofNullable(MAP.getOrDefault(field.getType(), null))
-                .map(constructor -> constructor.apply(field));
+        var factory = MAP.get(field.getType());
+        if (factory == null)
+            return Optional.empty();
+        try {
+            var lookup = MethodHandles.lookup();
+            return Optional.of(factory.create(field, lookup.unreflectGetter(field), lookup.unreflectSetter(field)));
+        } catch (IllegalAccessException ex) {
+            Burning.LOGGER.warn("Cannot access field {} of {}", field.getName(), field.getDeclaringClass(), ex);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Looks up {@code name} among the declared fields of {@code clazz} and of its
+     * superclasses, forcing its accessibility.
+     *
+     * @param clazz a non-null class
+     * @param name  a non-null field name
+     * @return a dynamic field if found and of a supported type, empty otherwise
+     */
+    static final Optional<DynamicField> of(Class<?> clazz, String name) {
+        for (var current = clazz; current != null; current = current.getSuperclass()) {
+            for (var field : current.getDeclaredFields()) {
+                if (field.getName().equals(name) && !Modifier.isStatic(field.getModifiers())) {
+                    field.setAccessible(true);
+                    return of(field);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static IllegalStateException rethrow(Throwable ex) {
+        if (ex instanceof RuntimeException runtime)
+            throw runtime;
+        if (ex instanceof Error error)
+            throw error;
+        return new IllegalStateException(ex);
+    }
+
+    @FunctionalInterface
+    private interface Factory {
+        DynamicField create(Field field, MethodHandle getter, MethodHandle setter);
     }
 
     private static final class IntegerField extends DynamicField {
-        private IntegerField(Field field) {
-            super(field);
+        private static final MethodType GET = MethodType.methodType(int.class, Object.class);
+        private static final MethodType SET = MethodType.methodType(void.class, Object.class, int.class);
+
+        private IntegerField(Field field, MethodHandle getter, MethodHandle setter) {
+            super(field, getter.asType(GET), setter.asType(SET));
         }
 
         @Override
-        Double get(Object target) {
+        long get(Object target) {
             try {
-                return Double.valueOf(field.getInt(target));
+                return (int) getter.invokeExact(target);
             } catch (NullPointerException ex) {
-                return 0d;
-            } catch (IllegalArgumentException | IllegalAccessException ex) {
-                throw new IllegalStateException(ex);
+                return 0L;
+            } catch (Throwable ex) {
+                throw rethrow(ex);
             }
         }
 
         @Override
-        @SuppressWarnings("java:S3011")
-        void set(Object target, Double value) {
+        void set(Object target, long value) {
             try {
-                field.setInt(target, value.intValue());
-            } catch (IllegalArgumentException | IllegalAccessException ex) {
-                throw new IllegalStateException(ex);
+                setter.invokeExact(target, (int) clamp(value, Integer.MIN_VALUE, Integer.MAX_VALUE));
+            } catch (Throwable ex) {
+                throw rethrow(ex);
             }
         }
     }
 
     private static final class LongField extends DynamicField {
-        private LongField(Field field) {
-            super(field);
+        private static final MethodType GET = MethodType.methodType(long.class, Object.class);
+        private static final MethodType SET = MethodType.methodType(void.class, Object.class, long.class);
+
+        private LongField(Field field, MethodHandle getter, MethodHandle setter) {
+            super(field, getter.asType(GET), setter.asType(SET));
         }
 
         @Override
-        Double get(Object target) {
+        long get(Object target) {
             try {
-                return Double.valueOf(field.getLong(target));
+                return (long) getter.invokeExact(target);
             } catch (NullPointerException ex) {
-                return 0d;
-            } catch (IllegalArgumentException | IllegalAccessException ex) {
-                throw new IllegalStateException(ex);
+                return 0L;
+            } catch (Throwable ex) {
+                throw rethrow(ex);
             }
         }
 
         @Override
-        @SuppressWarnings("java:S3011")
-        void set(Object target, Double value) {
+        void set(Object target, long value) {
             try {
-                field.setLong(target, value.longValue());
-            } catch (IllegalArgumentException | IllegalAccessException ex) {
-                throw new IllegalStateException(ex);
+                setter.invokeExact(target, value);
+            } catch (Throwable ex) {
+                throw rethrow(ex);
             }
         }
     }
 
     private static final class FloatField extends DynamicField {
-        private FloatField(Field field) {
-            super(field);
+        private static final MethodType GET = MethodType.methodType(float.class, Object.class);
+        private static final MethodType SET = MethodType.methodType(void.class, Object.class, float.class);
+
+        private FloatField(Field field, MethodHandle getter, MethodHandle setter) {
+            super(field, getter.asType(GET), setter.asType(SET));
         }
 
         @Override
-        Double get(Object target) {
+        long get(Object target) {
             try {
-                return Double.valueOf(field.getFloat(target));
+                return (long) (float) getter.invokeExact(target);
             } catch (NullPointerException ex) {
-                return 0d;
-            } catch (IllegalArgumentException | IllegalAccessException ex) {
-                throw new IllegalStateException(ex);
+                return 0L;
+            } catch (Throwable ex) {
+                throw rethrow(ex);
             }
         }
 
         @Override
-        @SuppressWarnings("java:S3011")
-        void set(Object target, Double value) {
+        void set(Object target, long value) {
             try {
-                field.setFloat(target, value.floatValue());
-            } catch (IllegalArgumentException | IllegalAccessException ex) {
-                throw new IllegalStateException(ex);
+                setter.invokeExact(target, (float) value);
+            } catch (Throwable ex) {
+                throw rethrow(ex);
             }
         }
     }
 
     private static final class DoubleField extends DynamicField {
-        private DoubleField(Field field) {
-            super(field);
+        private static final MethodType GET = MethodType.methodType(double.class, Object.class);
+        private static final MethodType SET = MethodType.methodType(void.class, Object.class, double.class);
+
+        private DoubleField(Field field, MethodHandle getter, MethodHandle setter) {
+            super(field, getter.asType(GET), setter.asType(SET));
         }
 
         @Override
-        Double get(Object target) {
+        long get(Object target) {
             try {
-                return Double.valueOf(field.getDouble(target));
+                return (long) (double) getter.invokeExact(target);
             } catch (NullPointerException ex) {
-                return 0d;
-            } catch (IllegalArgumentException | IllegalAccessException ex) {
-                throw new IllegalStateException(ex);
+                return 0L;
+            } catch (Throwable ex) {
+                throw rethrow(ex);
             }
         }
 
         @Override
-        @SuppressWarnings("java:S3011")
-        void set(Object target, Double value) {
+        void set(Object target, long value) {
             try {
-                field.setDouble(target, value.doubleValue());
-            } catch (IllegalArgumentException | IllegalAccessException ex) {
-                throw new IllegalStateException(ex);
+                setter.invokeExact(target, (double) value);
+            } catch (Throwable ex) {
+                throw rethrow(ex);
             }
         }
     }
@@ -9,11 +9,22 @@ final class DynamicFurnaceStorage extends AbstractFurnaceStorage<BlockEntity> {
 
     private final DynamicFurnaceStorageProvider provider;
 
+    private final DynamicField litTime;
+
+    private final DynamicField litDuration;
+
     private Item fuel = Items.AIR;
 
-    DynamicFurnaceStorage(DynamicFurnaceStorageProvider provider, BlockEntity target) {
+    DynamicFurnaceStorage(DynamicFurnaceStorageProvider provider, DynamicFurnaceStorageProvider.Fields fields,
+            BlockEntity target) {
         super(target);
         this.provider = provider;
+        this.litTime = fields.litTime();
+        this.litDuration = fields.litDuration();
+    }
+
+    DynamicFurnaceStorageProvider getProvider() {
+        return this.provider;
     }
 
     // AbstractFurnaceStorage
@@ -21,13 +32,12 @@ final class DynamicFurnaceStorage extends AbstractFurnaceStorage<BlockEntity> {
     @Override
     protected void setResource(FuelVariant resource) {
         this.fuel = resource.getFuel();
-        this.provider.litDuration.set(this.target, .0 + getCapacity());
-
+        this.litDuration.set(this.target, getCapacity());
     }
 
     @Override
     protected void setAmount(long amount) {
-        this.provider.litTime.set(this.target, .0 + amount);
+        this.litTime.set(this.target, amount);
     }
 
     // FurnaceStorage
@@ -39,6 +49,6 @@ final class DynamicFurnaceStorage extends AbstractFurnaceStorage<BlockEntity> {
 
     @Override
     public long getAmount() {
-        return this.provider.litTime.get(target).longValue();
+        return this.litTime.get(this.target);
     }
 }
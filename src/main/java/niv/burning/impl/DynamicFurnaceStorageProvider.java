@@ -2,20 +2,16 @@ package niv.burning.impl;
 
 import java.util.Optional;
 
-import org.apache.commons.lang3.reflect.FieldUtils;
 import org.jetbrains.annotations.Nullable;
 
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
 
-import net.fabricmc.fabric.mixin.lookup.BlockEntityTypeAccessor;
-import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.core.Registry;
 import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.resources.ResourceKey;
 import net.minecraft.resources.ResourceLocation;
-import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.entity.BlockEntityType;
 
@@ -27,45 +23,64 @@ final class DynamicFurnaceStorageProvider {
     public static final Codec<DynamicFurnaceStorageProvider> CODEC = RecordCodecBuilder.create(instance -> instance
             .group(
                     BuiltInRegistries.BLOCK_ENTITY_TYPE.byNameCodec().fieldOf("type").forGetter(src -> src.type),
-                    Codec.STRING.fieldOf("lit_time").forGetter(src -> src.litTime.getName()),
-                    Codec.STRING.fieldOf("lit_duration").forGetter(src -> src.litDuration.getName()))
+                    Codec.STRING.fieldOf("lit_time").forGetter(src -> src.litTime),
+                    Codec.STRING.fieldOf("lit_duration").forGetter(src -> src.litDuration))
             .apply(instance, DynamicFurnaceStorageProvider::from));
 
     final BlockEntityType<?> type;
 
-    final DynamicField litTime;
+    final String litTime;
 
-    final DynamicField litDuration;
+    final String litDuration;
 
-    private DynamicFurnaceStorageProvider(BlockEntityType<?> type, DynamicField litTime, DynamicField litDuration) {
+    /*
+     * Fields are resolved against the class of the first block entity actually
+     * queried, so that no dummy block entity has to be created while loading.
+     */
+    private final ClassValue<Optional<Fields>> fields = new ClassValue<>() {
+        @Override
+        protected Optional<Fields> computeValue(Class<?> clazz) {
+            return resolve(clazz);
+        }
+    };
+
+    private DynamicFurnaceStorageProvider(BlockEntityType<?> type, String litTime, String litDuration) {
         this.type = type;
         this.litTime = litTime;
         this.litDuration = litDuration;
     }
 
     public @Nullable DynamicFurnaceStorage getBurningStorage(BlockEntity entity, @Nullable Direction side) {
-        return new DynamicFurnaceStorage(this, entity);
+        var extension = (BlockEntityExtension) entity;
+        if (extension.getInternalDynamicStorage() instanceof DynamicFurnaceStorage storage
+                && storage.getProvider() == this)
+            return storage;
+        var resolved = getFields(entity.getClass());
+        if (resolved.isEmpty())
+            return null;
+        var storage = new DynamicFurnaceStorage(this, resolved.get(), entity);
+        extension.setInternalDynamicStorage(storage);
+        return storage;
+    }
+
+    Optional<Fields> getFields(Class<?> clazz) {
+        return this.fields.get(clazz);
+    }
+
+    private Optional<Fields> resolve(Class<?> clazz) {
+        var litTimeField = DynamicField.of(clazz, this.litTime);
+        var litDurationField = DynamicField.of(clazz, this.litDuration);
+        if (litTimeField.isPresent() && litDurationField.isPresent())
+            return Optional.of(new Fields(litTimeField.get(), litDurationField.get()));
+        Burning.LOGGER.warn("Cannot resolve fields {} and {} of {} for {}",
+                this.litTime, this.litDuration, clazz.getName(), BuiltInRegistries.BLOCK_ENTITY_TYPE.getKey(this.type));
+        return Optional.empty();
     }
 
     static final DynamicFurnaceStorageProvider from(BlockEntityType<?> type, String litTime, String litDuration) {
-        Class<?> clazz = ((BlockEntityTypeAccessor) type).getBlocks()
-                .stream().findAny()
-                .map(Block::defaultBlockState)
-                .map(state -> type.create(BlockPos.ZERO, state).getClass())
-                .orElse(null);
-        if (clazz != null) {
-            var litTimeField = Optional.ofNullable(FieldUtils
-                    .getField(clazz, litTime, true))
-                    .flatMap(DynamicField::of);
-
-            var litDurationField = Optional.ofNullable(FieldUtils
-                    .getField(clazz, litDuration, true))
-                    .flatMap(DynamicField::of);
-
-            if (litTimeField.isPresent() && litDurationField.isPresent()) {
-                return new DynamicFurnaceStorageProvider(type, litTimeField.get(), litDurationField.get());
-            }
-        }
-        return null;
+        return new DynamicFurnaceStorageProvider(type, litTime, litDuration);
+    }
+
+    record Fields(DynamicField litTime, DynamicField litDuration) {
     }
 }
@@ -0,0 +1,99 @@
+package niv.burning.impl;
+
+import java.util.BitSet;
+import java.util.Set;
+
+import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.Nullable;
+
+import com.google.common.collect.ImmutableSet;
+
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.block.entity.FuelValues;
+import niv.burning.api.FuelSnapshot;
+import niv.burning.api.FuelVariant;
+
+/**
+ * Immutable view of a {@link FuelValues} instance, with burn durations and
+ * fuel flags indexed by the items raw registry id.
+ *
+ * <p>
+ * Building a table interns a variant for every item, cached on the item along
+ * with its raw id, so that lookups are plain field and array loads.
+ */
+@Internal
+final class FuelTable implements FuelSnapshot {
+
+    private final long generation;
+
+    private final int[] durations;
+
+    private final BitSet fuels;
+
+    private FuelTable(long generation, int[] durations, BitSet fuels) {
+        this.generation = generation;
+        this.durations = durations;
+        this.fuels = fuels;
+    }
+
+    @Override
+    public long getGeneration() {
+        return this.generation;
+    }
+
+    @Override
+    public int getDuration(Item item) {
+        var id = DefaultFuelVariant.idOf(item);
+        return id >= 0 && id < this.durations.length ? this.durations[id] : 0;
+    }
+
+    @Override
+    public boolean isFuel(Item item) {
+        var id = DefaultFuelVariant.idOf(item);
+        return id >= 0 && this.fuels.get(id);
+    }
+
+    @Override
+    public FuelVariant getVariant(Item item) {
+        var variant = DefaultFuelVariant.interned(item);
+        return variant != null && this.fuels.get(variant.id) ? variant : FuelVariant.BLANK;
+    }
+
+    /**
+     * Lists the items whose duration or fuel status differ from {@code previous}.
+     *
+     * @param previous the table this one replaces, null if none
+     * @return a non-null immutable set
+     */
+    Set<Item> changedSince(@Nullable FuelTable previous) {
+        var builder = ImmutableSet.<Item>builder();
+        for (var id = 0; id < this.durations.length; id++) {
+            var wasFuel = previous != null && previous.fuels.get(id);
+            var oldDuration = previous != null && id < previous.durations.length ? previous.durations[id] : 0;
+            if (wasFuel != this.fuels.get(id) || oldDuration != this.durations[id])
+                builder.add(BuiltInRegistries.ITEM.byId(id));
+        }
+        return builder.build();
+    }
+
+    static FuelTable of(FuelValues values, @Nullable FuelTable previous) {
+        var size = BuiltInRegistries.ITEM.size();
+        var durations = new int[size];
+        var fuels = new BitSet(size);
+        for (var item : BuiltInRegistries.ITEM)
+            DefaultFuelVariant.intern(item, BuiltInRegistries.ITEM.getId(item));
+        for (var item : values.fuelItems()) {
+            var id = BuiltInRegistries.ITEM.getId(item);
+            if (id < 0 || id >= size)
+                continue;
+            var stack = new ItemStack(item);
+            if (values.isFuel(stack)) {
+                durations[id] = values.burnDuration(stack);
+                fuels.set(id);
+            }
+        }
+        return new FuelTable(previous == null ? 0L : previous.generation + 1L, durations, fuels);
+    }
+}
@@ -0,0 +1,71 @@
+package niv.burning.impl;
+
+import java.util.Map;
+
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet;
+import net.minecraft.server.level.ServerLevel;
+import niv.burning.api.base.BurningStorageBlockEntity;
+
+/**
+ * Defers the side effects of committing to furnace storages, that is updating
+ * the LIT property and flagging the block entity as changed, to the end of the
+ * level tick, so that they are applied once per furnace with its final state.
+ */
+final class FurnaceUpdates {
+
+    private static final Map<ServerLevel, FurnaceUpdates> PENDING = new Reference2ObjectOpenHashMap<>();
+
+    private ReferenceLinkedOpenHashSet<AbstractFurnaceStorage<?>> storages = new ReferenceLinkedOpenHashSet<>();
+
+    private ReferenceLinkedOpenHashSet<AbstractFurnaceStorage<?>> spare = new ReferenceLinkedOpenHashSet<>();
+
+    private FurnaceUpdates() {
+    }
+
+    static void schedule(AbstractFurnaceStorage<?> storage) {
+        if (storage.target.getLevel() instanceof ServerLevel level && level.getServer().isSameThread()) {
+            PENDING.computeIfAbsent(level, key -> new FurnaceUpdates()).storages.add(storage);
+        } else {
+            apply(storage);
+        }
+    }
+
+    static void flush(ServerLevel level) {
+        var updates = PENDING.get(level);
+        if (updates != null)
+            updates.flush();
+    }
+
+    static void flushAll() {
+        for (var updates : PENDING.values())
+            updates.flush();
+    }
+
+    static void discard(ServerLevel level) {
+        PENDING.remove(level);
+    }
+
+    private void flush() {
+        if (this.storages.isEmpty())
+            return;
+        // Swap sets, as applying updates may commit to further storages
+        var current = this.storages;
+        this.storages = this.spare;
+        this.spare = current;
+        try {
+            for (var storage : current)
+                if (!storage.target.isRemoved())
+                    apply(storage);
+        } finally {
+            current.clear();
+        }
+    }
+
+    private static void apply(AbstractFurnaceStorage<?> storage) {
+        if (storage.target.hasLevel()) {
+            BurningStorageBlockEntity.tryUpdateLitProperty(storage.target, storage.getAmount() > 0);
+            storage.target.setChanged();
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package niv.burning.impl;
+
+import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.Nullable;
+
+@Internal
+public interface ItemExtension {
+
+    @Nullable
+    DefaultFuelVariant getInternalFuelVariant();
+
+    void setInternalFuelVariant(DefaultFuelVariant variant);
+}
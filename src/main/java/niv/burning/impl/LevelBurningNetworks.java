@@ -0,0 +1,369 @@
+package niv.burning.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.Nullable;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.fabricmc.fabric.api.transfer.v1.storage.Storage;
+import net.fabricmc.fabric.api.transfer.v1.storage.StorageView;
+import net.fabricmc.fabric.api.transfer.v1.storage.base.CombinedStorage;
+import net.fabricmc.fabric.api.transfer.v1.storage.base.SingleSlotStorage;
+import net.fabricmc.fabric.api.transfer.v1.transaction.Transaction;
+import net.fabricmc.fabric.api.transfer.v1.transaction.TransactionContext;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.server.level.ServerLevel;
+import niv.burning.api.BurningNetwork;
+import niv.burning.api.BurningNetworks;
+import niv.burning.api.BurningStorageCache;
+import niv.burning.api.FuelVariant;
+
+@Internal
+public final class LevelBurningNetworks implements BurningNetworks {
+
+    private static final Map<ServerLevel, LevelBurningNetworks> NETWORKS = new Reference2ObjectOpenHashMap<>();
+
+    private static final int UNVISITED = -1;
+
+    private final ServerLevel level;
+
+    /*
+     * Node index by position, nodes are stored in parallel arrays
+     */
+    private final Long2IntOpenHashMap nodes = new Long2IntOpenHashMap();
+
+    private final IntArrayList released = new IntArrayList();
+
+    private long[] positions = new long[16];
+
+    private int[] parents = new int[16];
+
+    private int[] sizes = new int[16];
+
+    private BurningStorageCache[] caches = new BurningStorageCache[16];
+
+    private int length = 0;
+
+    /*
+     * Networks by root node
+     */
+    private final Int2ObjectOpenHashMap<Network> networks = new Int2ObjectOpenHashMap<>();
+
+    private long[] amounts = new long[16];
+
+    private LevelBurningNetworks(ServerLevel level) {
+        this.level = level;
+        this.nodes.defaultReturnValue(-1);
+    }
+
+    @Internal
+    public static LevelBurningNetworks of(ServerLevel level) {
+        return NETWORKS.computeIfAbsent(level, LevelBurningNetworks::new);
+    }
+
+    static void tick(ServerLevel level) {
+        var networks = NETWORKS.get(level);
+        if (networks != null)
+            networks.balance();
+    }
+
+    static void onLevelUnload(ServerLevel level) {
+        NETWORKS.remove(level);
+    }
+
+    // BurningNetworks
+
+    @Override
+    public boolean add(BlockPos pos) {
+        var key = pos.asLong();
+        if (this.nodes.containsKey(key))
+            return false;
+
+        int node;
+        if (this.released.isEmpty()) {
+            node = this.length++;
+            if (node == this.parents.length) {
+                var length = node * 2;
+                this.positions = Arrays.copyOf(this.positions, length);
+                this.parents = Arrays.copyOf(this.parents, length);
+                this.sizes = Arrays.copyOf(this.sizes, length);
+                this.caches = Arrays.copyOf(this.caches, length);
+            }
+        } else {
+            node = this.released.popInt();
+        }
+        this.positions[node] = key;
+        this.parents[node] = node;
+        this.sizes[node] = 1;
+        this.caches[node] = BurningStorageCache.create(this.level, pos);
+        this.nodes.put(key, node);
+
+        var network = new Network();
+        network.members.add(node);
+        this.networks.put(node, network);
+        for (var direction : Direction.values()) {
+            var other = this.nodes.get(BlockPos.offset(key, direction));
+            if (other >= 0)
+                union(node, other);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean remove(BlockPos pos) {
+        var key = pos.asLong();
+        var node = this.nodes.get(key);
+        if (node < 0)
+            return false;
+        var network = this.networks.remove(find(node));
+        this.nodes.remove(key);
+        this.caches[node] = null;
+        this.released.add(node);
+        split(network.members, node);
+        return true;
+    }
+
+    @Override
+    public boolean contains(BlockPos pos) {
+        return this.nodes.containsKey(pos.asLong());
+    }
+
+    @Override
+    public @Nullable BurningNetwork getNetwork(BlockPos pos) {
+        var node = this.nodes.get(pos.asLong());
+        if (node < 0)
+            return null;
+        return this.networks.get(find(node));
+    }
+
+    // Union-find
+
+    private int find(int node) {
+        var current = node;
+        while (this.parents[current] != current) {
+            this.parents[current] = this.parents[this.parents[current]];
+            current = this.parents[current];
+        }
+        return current;
+    }
+
+    private void union(int a, int b) {
+        var rootA = find(a);
+        var rootB = find(b);
+        if (rootA == rootB)
+            return;
+        if (this.sizes[rootA] < this.sizes[rootB]) {
+            var swap = rootA;
+            rootA = rootB;
+            rootB = swap;
+        }
+        this.parents[rootB] = rootA;
+        this.sizes[rootA] += this.sizes[rootB];
+        this.networks.get(rootA).absorb(this.networks.remove(rootB));
+    }
+
+    /*
+     * Regroups the members of the network a node was removed from, as
+     * union-find cannot split sets, visiting that network only
+     */
+    private void split(IntArrayList members, int removed) {
+        for (var i = 0; i < members.size(); i++)
+            this.parents[members.getInt(i)] = UNVISITED;
+        for (var i = 0; i < members.size(); i++) {
+            var root = members.getInt(i);
+            if (root == removed || this.parents[root] != UNVISITED)
+                continue;
+            var network = new Network();
+            this.parents[root] = root;
+            network.members.add(root);
+            // Breadth first, the members found so far being the queue
+            for (var j = 0; j < network.members.size(); j++) {
+                var position = this.positions[network.members.getInt(j)];
+                for (var direction : Direction.values()) {
+                    var other = this.nodes.get(BlockPos.offset(position, direction));
+                    if (other >= 0 && this.parents[other] == UNVISITED) {
+                        this.parents[other] = root;
+                        network.members.add(other);
+                    }
+                }
+            }
+            this.sizes[root] = network.members.size();
+            this.networks.put(root, network);
+        }
+    }
+
+    private void balance() {
+        for (var network : this.networks.values())
+            network.balance();
+    }
+
+    private static long amountOf(Storage<FuelVariant> storage) {
+        if (storage instanceof SingleSlotStorage<FuelVariant> slot)
+            return slot.getAmount();
+        var amount = 0L;
+        for (var view : storage.nonEmptyViews())
+            amount += view.getAmount();
+        return amount;
+    }
+
+    private static long capacityOf(Storage<FuelVariant> storage) {
+        if (storage instanceof SingleSlotStorage<FuelVariant> slot)
+            return slot.getCapacity();
+        var capacity = 0L;
+        for (var view : storage)
+            capacity += view.getCapacity();
+        return capacity;
+    }
+
+    private final class Network implements BurningNetwork {
+
+        private final IntArrayList members = new IntArrayList();
+
+        private final List<Storage<FuelVariant>> parts = new ArrayList<>();
+
+        private final CombinedStorage<FuelVariant, Storage<FuelVariant>> combined = new CombinedStorage<>(this.parts);
+
+        private int refreshed = -1;
+
+        private void absorb(Network other) {
+            this.members.addAll(other.members);
+            this.refreshed = -1;
+        }
+
+        /*
+         * Resolves the storages of this network at most once per tick
+         */
+        private List<Storage<FuelVariant>> parts() {
+            var time = LevelBurningNetworks.this.level.getServer().getTickCount();
+            if (time != this.refreshed) {
+                this.refreshed = time;
+                this.parts.clear();
+                for (var i = 0; i < this.members.size(); i++) {
+                    var storage = LevelBurningNetworks.this.caches[this.members.getInt(i)].find(null);
+                    if (storage != null)
+                        this.parts.add(storage);
+                }
+            }
+            return this.parts;
+        }
+
+        /*
+         * Moves burning from the storages holding more than the average amount
+         * into those holding less, within a single transaction
+         */
+        private void balance() {
+            var parts = parts();
+            var size = parts.size();
+            if (size < 2)
+                return;
+
+            if (LevelBurningNetworks.this.amounts.length < size)
+                LevelBurningNetworks.this.amounts = new long[size * 2];
+            var amounts = LevelBurningNetworks.this.amounts;
+            var total = 0L;
+            var count = 0;
+            for (var i = 0; i < size; i++) {
+                if (parts.get(i) instanceof SingleSlotStorage<FuelVariant> slot) {
+                    amounts[i] = slot.getAmount();
+                    total += amounts[i];
+                    count++;
+                } else {
+                    amounts[i] = -1L;
+                }
+            }
+            if (count < 2)
+                return;
+            var average = total / count;
+
+            try (var transaction = Transaction.openOuter()) {
+                var j = 0;
+                for (var i = 0; i < size && j < size; i++) {
+                    if (amounts[i] <= average
+                            || !(parts.get(i) instanceof SingleSlotStorage<FuelVariant> donor)
+                            || !donor.supportsExtraction())
+                        continue;
+                    var resource = donor.getResource();
+                    while (amounts[i] > average && j < size) {
+                        if (amounts[j] < 0L || amounts[j] >= average) {
+                            j++;
+                            continue;
+                        }
+                        var offer = Math.min(amounts[i] - average, average - amounts[j]);
+                        var moved = parts.get(j).insert(resource, offer, transaction);
+                        if (moved > 0L && donor.extract(resource, moved, transaction) != moved)
+                            return;
+                        amounts[i] -= moved;
+                        amounts[j] += moved;
+                        if (moved < offer)
+                            j++;
+                    }
+                }
+                transaction.commit();
+            }
+        }
+
+        // BurningNetwork
+
+        @Override
+        public int size() {
+            return this.members.size();
+        }
+
+        @Override
+        public long getAmount() {
+            var amount = 0L;
+            for (var part : parts())
+                amount += amountOf(part);
+            return amount;
+        }
+
+        @Override
+        public long getCapacity() {
+            var capacity = 0L;
+            for (var part : parts())
+                capacity += capacityOf(part);
+            return capacity;
+        }
+
+        // Storage
+
+        @Override
+        public boolean supportsInsertion() {
+            parts();
+            return this.combined.supportsInsertion();
+        }
+
+        @Override
+        public long insert(FuelVariant resource, long maxAmount, TransactionContext transaction) {
+            parts();
+            return this.combined.insert(resource, maxAmount, transaction);
+        }
+
+        @Override
+        public boolean supportsExtraction() {
+            parts();
+            return this.combined.supportsExtraction();
+        }
+
+        @Override
+        public long extract(FuelVariant resource, long maxAmount, TransactionContext transaction) {
+            parts();
+            return this.combined.extract(resource, maxAmount, transaction);
+        }
+
+        @Override
+        public Iterator<StorageView<FuelVariant>> iterator() {
+            parts();
+            return this.combined.iterator();
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package niv.burning.impl;
+
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+
+import org.jetbrains.annotations.ApiStatus.Internal;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMaps;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.fabricmc.fabric.api.transfer.v1.storage.Storage;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.levelgen.structure.BoundingBox;
+import niv.burning.api.BurningStorage;
+import niv.burning.api.BurningStorageIndex;
+import niv.burning.api.FuelVariant;
+
+@Internal
+public final class LevelBurningStorageIndex implements BurningStorageIndex {
+
+    private static final Map<ServerLevel, LevelBurningStorageIndex> INDEXES = new Reference2ObjectOpenHashMap<>();
+
+    private final ServerLevel level;
+
+    private final Long2ObjectMap<ObjectArrayList<BlockEntity>> sections = new Long2ObjectOpenHashMap<>();
+
+    private LevelBurningStorageIndex(ServerLevel level) {
+        this.level = level;
+    }
+
+    @Internal
+    public static LevelBurningStorageIndex of(ServerLevel level) {
+        return INDEXES.computeIfAbsent(level, LevelBurningStorageIndex::new);
+    }
+
+    static void onLoad(BlockEntity entity, ServerLevel level) {
+        if (BurningStorage.SIDED.getProvider(entity.getBlockState().getBlock()) != null)
+            of(level).add(entity);
+    }
+
+    static void onUnload(BlockEntity entity, ServerLevel level) {
+        var index = INDEXES.get(level);
+        if (index != null)
+            index.remove(entity);
+    }
+
+    static void onLevelUnload(ServerLevel level) {
+        INDEXES.remove(level);
+    }
+
+    private void add(BlockEntity entity) {
+        var list = this.sections.computeIfAbsent(SectionPos.asLong(entity.getBlockPos()),
+                key -> new ObjectArrayList<>(4));
+        if (!list.contains(entity))
+            list.add(entity);
+    }
+
+    private void remove(BlockEntity entity) {
+        var key = SectionPos.asLong(entity.getBlockPos());
+        var list = this.sections.get(key);
+        if (list != null && list.remove(entity) && list.isEmpty())
+            this.sections.remove(key);
+    }
+
+    // BurningStorageIndex
+
+    @Override
+    public boolean hasAny(SectionPos section) {
+        return this.sections.containsKey(section.asLong());
+    }
+
+    @Override
+    public void forEachInBox(BoundingBox box, BiConsumer<BlockPos, Storage<FuelVariant>> action) {
+        forEach(box, pos -> true, action);
+    }
+
+    @Override
+    public void forEachInRadius(BlockPos center, double radius, BiConsumer<BlockPos, Storage<FuelVariant>> action) {
+        var r = (int) Math.ceil(radius);
+        var box = new BoundingBox(
+                center.getX() - r, center.getY() - r, center.getZ() - r,
+                center.getX() + r, center.getY() + r, center.getZ() + r);
+        var radiusSqr = radius * radius;
+        forEach(box, pos -> pos.distSqr(center) <= radiusSqr, action);
+    }
+
+    private void forEach(BoundingBox box, Predicate<BlockPos> filter,
+            BiConsumer<BlockPos, Storage<FuelVariant>> action) {
+        var minX = SectionPos.blockToSectionCoord(box.minX());
+        var minY = SectionPos.blockToSectionCoord(box.minY());
+        var minZ = SectionPos.blockToSectionCoord(box.minZ());
+        var maxX = SectionPos.blockToSectionCoord(box.maxX());
+        var maxY = SectionPos.blockToSectionCoord(box.maxY());
+        var maxZ = SectionPos.blockToSectionCoord(box.maxZ());
+        var volume = (long) (maxX - minX + 1) * (maxY - minY + 1) * (maxZ - minZ + 1);
+
+        if (volume > this.sections.size()) {
+            // Fewer occupied sections than sections in the box
+            for (var entry : Long2ObjectMaps.fastIterable(this.sections)) {
+                var key = entry.getLongKey();
+                var x = SectionPos.x(key);
+                var y = SectionPos.y(key);
+                var z = SectionPos.z(key);
+                if (x >= minX && x <= maxX && y >= minY && y <= maxY && z >= minZ && z <= maxZ)
+                    visit(entry.getValue(), box, filter, action);
+            }
+        } else {
+            for (var x = minX; x <= maxX; x++)
+                for (var z = minZ; z <= maxZ; z++)
+                    for (var y = minY; y <= maxY; y++) {
+                        var list = this.sections.get(SectionPos.asLong(x, y, z));
+                        if (list != null)
+                            visit(list, box, filter, action);
+                    }
+        }
+    }
+
+    private void visit(ObjectArrayList<BlockEntity> list, BoundingBox box,
+            Predicate<BlockPos> filter,
+            BiConsumer<BlockPos, Storage<FuelVariant>> action) {
+        for (var i = 0; i < list.size(); i++) {
+            var entity = list.get(i);
+            var pos = entity.getBlockPos();
+            if (entity.isRemoved() || !box.isInside(pos) || !filter.test(pos))
+                continue;
+            var storage = BurningStorage.SIDED.find(this.level, pos, entity.getBlockState(), entity, null);
+            if (storage != null)
+                action.accept(pos, storage);
+        }
+    }
+}
@@ -0,0 +1,339 @@
+package niv.burning.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.Nullable;
+
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.fabricmc.fabric.api.transfer.v1.storage.Storage;
+import net.fabricmc.fabric.api.transfer.v1.storage.StoragePreconditions;
+import net.fabricmc.fabric.api.transfer.v1.storage.base.SingleSlotStorage;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import niv.burning.api.BurningRateLimited;
+import niv.burning.api.BurningStorage;
+import niv.burning.api.BurningStorageListener;
+import niv.burning.api.BurningTimers;
+import niv.burning.api.FuelVariant;
+import niv.burning.api.ListenableBurningStorage;
+
+/**
+ * Hierarchical timing wheel of burning subscriptions, advanced once per tick to
+ * the game time of its level.
+ *
+ * <p>
+ * Each of the {@value #LEVELS} wheels has {@value #SLOTS} slots, and each slot
+ * of a wheel spans a whole turn of the wheel below. A timer is kept in the
+ * lowest wheel where its due time shares all the higher bits with the current
+ * time, and is moved down as the current time reaches the start of its slot.
+ * Timers beyond the highest wheel wait in an overflow list, checked again at
+ * each of its turns.
+ *
+ * <p>
+ * Timers are also kept by storage, side views being replaced by the whole
+ * storage, so that those of a block entity are cancelled when it is unloaded
+ * or removed, and all of them when the level is unloaded.
+ */
+@Internal
+public final class LevelBurningTimers implements BurningTimers {
+
+    private static final Map<ServerLevel, LevelBurningTimers> TIMERS = new Reference2ObjectOpenHashMap<>();
+
+    private static final int BITS = 6;
+
+    private static final int SLOTS = 1 << BITS;
+
+    private static final int MASK = SLOTS - 1;
+
+    private static final int LEVELS = 4;
+
+    private static final int OVERFLOW = LEVELS * SLOTS;
+
+    private static final int NONE = -1;
+
+    /*
+     * Gaps above this are handled by rescheduling every timer at once
+     */
+    private static final long MAX_STEPS = 1L << (BITS * 2);
+
+    private final LongSupplier clock;
+
+    private final @Nullable Timer[] heads = new Timer[OVERFLOW + 1];
+
+    private long now;
+
+    private final ObjectArrayList<Timer> due = new ObjectArrayList<>();
+
+    /*
+     * Active timers by storage, linked or not, as those not expected to ever fire
+     * are kept out of the wheels
+     */
+    private final Map<Storage<FuelVariant>, ObjectArrayList<Timer>> byStorage = new Reference2ObjectOpenHashMap<>();
+
+    LevelBurningTimers(LongSupplier clock) {
+        this.clock = clock;
+        this.now = clock.getAsLong();
+    }
+
+    @Internal
+    public static LevelBurningTimers of(ServerLevel level) {
+        return TIMERS.computeIfAbsent(level, key -> new LevelBurningTimers(key::getGameTime));
+    }
+
+    static void tick(ServerLevel level) {
+        var timers = TIMERS.get(level);
+        if (timers != null)
+            timers.advance(level.getGameTime());
+    }
+
+    static void onUnload(BlockEntity entity, ServerLevel level) {
+        var timers = TIMERS.get(level);
+        if (timers == null || timers.byStorage.isEmpty())
+            return;
+        var storage = BurningStorage.SIDED.find(level, entity.getBlockPos(), entity.getBlockState(), entity, null);
+        if (storage != null)
+            timers.cancelAll(storage);
+    }
+
+    static void onLevelUnload(ServerLevel level) {
+        var timers = TIMERS.remove(level);
+        if (timers != null)
+            timers.cancelAll();
+    }
+
+    private static Storage<FuelVariant> wholeOf(Storage<FuelVariant> storage) {
+        return storage instanceof BurningRateLimited limited ? limited.forSide(null) : storage;
+    }
+
+    /**
+     * Cancels every active timer of {@code storage}.
+     *
+     * @param storage a non-null storage, or one of its side views
+     */
+    void cancelAll(Storage<FuelVariant> storage) {
+        var timers = this.byStorage.remove(wholeOf(storage));
+        if (timers != null)
+            for (var i = 0; i < timers.size(); i++)
+                timers.get(i).cancel();
+    }
+
+    /**
+     * Cancels every active timer.
+     */
+    void cancelAll() {
+        var all = new ObjectArrayList<>(this.byStorage.values());
+        this.byStorage.clear();
+        for (var timers : all)
+            for (var i = 0; i < timers.size(); i++)
+                timers.get(i).cancel();
+    }
+
+    // BurningTimers
+
+    @Override
+    public Subscription whenBelow(Storage<FuelVariant> storage, long rate, long threshold, Action action) {
+        StoragePreconditions.notNegative(rate);
+        StoragePreconditions.notNegative(threshold);
+        requireNonNull(action);
+        if (!(storage instanceof SingleSlotStorage<FuelVariant> slot)
+                || !(storage instanceof ListenableBurningStorage listenable))
+            throw new IllegalArgumentException("Storage is not a listenable single slot storage: " + storage);
+
+        var timer = new Timer(slot, listenable, wholeOf(storage), rate, threshold, action);
+        this.byStorage.computeIfAbsent(timer.whole, key -> new ObjectArrayList<>(1)).add(timer);
+        listenable.addListener(timer);
+        reschedule(timer);
+        return timer;
+    }
+
+    // Wheel
+
+    private void reschedule(Timer timer) {
+        unlink(timer);
+        var amount = timer.slot.getAmount();
+        if (amount <= timer.threshold) {
+            link(timer, this.now + 1L);
+        } else if (timer.rate > 0L) {
+            var time = Math.max(this.clock.getAsLong(), this.now);
+            link(timer, Math.max(this.now + 1L, time + Math.ceilDiv(amount - timer.threshold, timer.rate)));
+        }
+    }
+
+    /*
+     * Due times must be greater than the current time, or equal to it while
+     * moving timers down before firing
+     */
+    private void link(Timer timer, long due) {
+        timer.due = due;
+        var bucket = OVERFLOW;
+        for (var wheel = 0; wheel < LEVELS; wheel++) {
+            var shift = BITS * (wheel + 1);
+            if ((timer.due >>> shift) == (this.now >>> shift)) {
+                bucket = wheel * SLOTS + (int) ((timer.due >>> (BITS * wheel)) & MASK);
+                break;
+            }
+        }
+        timer.bucket = bucket;
+        timer.prev = null;
+        timer.next = this.heads[bucket];
+        if (timer.next != null)
+            timer.next.prev = timer;
+        this.heads[bucket] = timer;
+    }
+
+    private void unlink(Timer timer) {
+        if (timer.bucket == NONE)
+            return;
+        if (timer.prev != null)
+            timer.prev.next = timer.next;
+        else
+            this.heads[timer.bucket] = timer.next;
+        if (timer.next != null)
+            timer.next.prev = timer.prev;
+        timer.prev = null;
+        timer.next = null;
+        timer.bucket = NONE;
+    }
+
+    private @Nullable Timer detach(int bucket) {
+        var head = this.heads[bucket];
+        this.heads[bucket] = null;
+        for (var timer = head; timer != null; timer = timer.next)
+            timer.bucket = NONE;
+        return head;
+    }
+
+    private void relink(@Nullable Timer head, long minDue) {
+        var timer = head;
+        while (timer != null) {
+            var next = timer.next;
+            link(timer, Math.max(timer.due, minDue));
+            timer = next;
+        }
+    }
+
+    void advance(long time) {
+        if (time <= this.now)
+            return;
+
+        if (time - this.now > MAX_STEPS) {
+            // Far jump, move every timer at once; those already due fire next tick
+            this.now = time - 1L;
+            for (var bucket = 0; bucket <= OVERFLOW; bucket++)
+                relink(detach(bucket), time);
+        }
+
+        while (this.now < time) {
+            var current = ++this.now;
+
+            // Move timers down from each wheel starting a new slot, highest first
+            if ((current & ((1L << (BITS * LEVELS)) - 1L)) == 0L)
+                relink(detach(OVERFLOW), current);
+            for (var wheel = LEVELS - 1; wheel > 0; wheel--)
+                if ((current & ((1L << (BITS * wheel)) - 1L)) == 0L)
+                    relink(detach(wheel * SLOTS + (int) ((current >>> (BITS * wheel)) & MASK)), current);
+
+            fire(detach((int) (current & MASK)));
+        }
+    }
+
+    private void fire(@Nullable Timer head) {
+        if (head == null)
+            return;
+        // Collect first, as actions may cancel or reschedule other timers
+        var due = this.due;
+        for (var timer = head; timer != null; timer = timer.next)
+            due.add(timer);
+        for (var i = 0; i < due.size(); i++) {
+            due.get(i).prev = null;
+            due.get(i).next = null;
+        }
+        for (var i = 0; i < due.size(); i++) {
+            var timer = due.get(i);
+            if (!timer.active || timer.bucket != NONE)
+                continue;
+            var amount = timer.slot.getAmount();
+            if (amount <= timer.threshold) {
+                timer.cancel();
+                try {
+                    timer.action.onBelow(timer.slot, amount);
+                } catch (RuntimeException e) {
+                    // Keep firing the other timers due now
+                    Burning.LOGGER.warn("Burning timer action failed", e);
+                }
+            } else {
+                reschedule(timer);
+            }
+        }
+        due.clear();
+    }
+
+    private void forget(Timer timer) {
+        var timers = this.byStorage.get(timer.whole);
+        if (timers != null && timers.remove(timer) && timers.isEmpty())
+            this.byStorage.remove(timer.whole);
+    }
+
+    private final class Timer implements Subscription, BurningStorageListener {
+
+        private final SingleSlotStorage<FuelVariant> slot;
+
+        private final ListenableBurningStorage storage;
+
+        private final Storage<FuelVariant> whole;
+
+        private final long rate;
+
+        private final long threshold;
+
+        private final Action action;
+
+        private boolean active = true;
+
+        private long due;
+
+        private int bucket = NONE;
+
+        private @Nullable Timer prev;
+
+        private @Nullable Timer next;
+
+        private Timer(SingleSlotStorage<FuelVariant> slot, ListenableBurningStorage storage,
+                Storage<FuelVariant> whole, long rate, long threshold, Action action) {
+            this.slot = slot;
+            this.storage = storage;
+            this.whole = whole;
+            this.rate = rate;
+            this.threshold = threshold;
+            this.action = action;
+        }
+
+        @Override
+        public boolean isActive() {
+            return this.active;
+        }
+
+        @Override
+        public void cancel() {
+            if (this.active) {
+                this.active = false;
+                forget(this);
+                this.storage.removeListener(this);
+                unlink(this);
+            }
+        }
+
+        @Override
+        public void onBurningChanged(Storage<FuelVariant> storage,
+                FuelVariant oldResource, long oldAmount,
+                FuelVariant newResource, long newAmount) {
+            if (this.active)
+                reschedule(this);
+        }
+    }
+}
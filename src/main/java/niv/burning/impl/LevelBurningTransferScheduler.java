@@ -0,0 +1,162 @@
+package niv.burning.impl;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Map;
+
+import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.Nullable;
+
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.fabricmc.fabric.api.transfer.v1.storage.Storage;
+import net.fabricmc.fabric.api.transfer.v1.storage.StoragePreconditions;
+import net.fabricmc.fabric.api.transfer.v1.storage.StorageUtil;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+import niv.burning.api.BurningStorage;
+import niv.burning.api.BurningTransferScheduler;
+import niv.burning.api.FuelVariant;
+
+@Internal
+public final class LevelBurningTransferScheduler implements BurningTransferScheduler {
+
+    private static final Map<ServerLevel, LevelBurningTransferScheduler> SCHEDULERS = new Reference2ObjectOpenHashMap<>();
+
+    private static final int BATCH_SIZE = 32;
+
+    private static final Comparator<Request> BY_CHUNK = Comparator.comparingLong(Request::chunk);
+
+    private final ServerLevel level;
+
+    /*
+     * Transfers carried over from previous ticks, already sorted, followed by
+     * those scheduled since the last tick
+     */
+    private final ObjectArrayList<Request> pending = new ObjectArrayList<>();
+
+    private int carried = 0;
+
+    private long budget = DEFAULT_BUDGET;
+
+    private final BlockPos[] positions = new BlockPos[BATCH_SIZE * 2];
+
+    private final @Nullable Direction[] sides = new Direction[BATCH_SIZE * 2];
+
+    @SuppressWarnings("unchecked")
+    private final @Nullable Storage<FuelVariant>[] storages = new Storage[BATCH_SIZE * 2];
+
+    private LevelBurningTransferScheduler(ServerLevel level) {
+        this.level = level;
+    }
+
+    @Internal
+    public static LevelBurningTransferScheduler of(ServerLevel level) {
+        return SCHEDULERS.computeIfAbsent(level, LevelBurningTransferScheduler::new);
+    }
+
+    static void tick(ServerLevel level) {
+        var scheduler = SCHEDULERS.get(level);
+        if (scheduler != null)
+            scheduler.run();
+    }
+
+    static void onLevelUnload(ServerLevel level) {
+        SCHEDULERS.remove(level);
+    }
+
+    // BurningTransferScheduler
+
+    @Override
+    public void schedule(BlockPos source, @Nullable Direction sourceSide,
+            BlockPos target, @Nullable Direction targetSide, long amount) {
+        StoragePreconditions.notNegative(amount);
+        if (amount > 0L)
+            this.pending.add(new Request(source.immutable(), sourceSide, target.immutable(), targetSide, amount,
+                    ChunkPos.asLong(source)));
+    }
+
+    @Override
+    public int getPending() {
+        return this.pending.size();
+    }
+
+    @Override
+    public long getBudget() {
+        return this.budget;
+    }
+
+    @Override
+    public void setBudget(long nanos) {
+        StoragePreconditions.notNegative(nanos);
+        this.budget = nanos;
+    }
+
+    private void run() {
+        var size = this.pending.size();
+        if (size == 0)
+            return;
+        var start = System.nanoTime();
+
+        // Sort the newly scheduled transfers only, carried ones go first
+        var elements = this.pending.elements();
+        Arrays.sort(elements, this.carried, size, BY_CHUNK);
+
+        var done = 0;
+        try {
+            do {
+                var count = Math.min(BATCH_SIZE, size - done);
+                execute(elements, done, count);
+                done += count;
+            } while (done < size && System.nanoTime() - start < this.budget);
+        } finally {
+            // Transfers scheduled while running are kept after the carried ones
+            this.pending.removeElements(0, done);
+            this.carried = size - done;
+            Arrays.fill(this.storages, null);
+        }
+    }
+
+    private void execute(Request[] requests, int from, int count) {
+        var positions = this.positions;
+        var sides = this.sides;
+        var storages = this.storages;
+        for (var i = 0; i < count; i++) {
+            var request = requests[from + i];
+            positions[i * 2] = request.source();
+            sides[i * 2] = request.sourceSide();
+            positions[i * 2 + 1] = request.target();
+            sides[i * 2 + 1] = request.targetSide();
+        }
+
+        try {
+            BurningStorage.findAll(this.level, positions, sides, storages, 0, count * 2);
+        } catch (RuntimeException e) {
+            // Dropped rather than retried every tick
+            Burning.LOGGER.warn("Dropping a batch of {} burning transfers whose lookup failed", count, e);
+            return;
+        }
+
+        for (var i = 0; i < count; i++) {
+            var source = storages[i * 2];
+            var target = storages[i * 2 + 1];
+            if (source != null && target != null && source != target)
+                move(requests[from + i], source, target);
+        }
+    }
+
+    private static void move(Request request, Storage<FuelVariant> source, Storage<FuelVariant> target) {
+        try {
+            StorageUtil.move(source, target, resource -> true, request.amount(), null);
+        } catch (RuntimeException e) {
+            Burning.LOGGER.warn("Dropping a burning transfer from {} to {} that failed",
+                    request.source(), request.target(), e);
+        }
+    }
+
+    private record Request(BlockPos source, @Nullable Direction sourceSide,
+            BlockPos target, @Nullable Direction targetSide, long amount, long chunk) {
+    }
+}
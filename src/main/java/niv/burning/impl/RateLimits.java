@@ -0,0 +1,280 @@
+package niv.burning.impl;
+
+import java.util.Iterator;
+import java.util.function.LongSupplier;
+
+import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.Nullable;
+
+import net.fabricmc.fabric.api.transfer.v1.storage.Storage;
+import net.fabricmc.fabric.api.transfer.v1.storage.StoragePreconditions;
+import net.fabricmc.fabric.api.transfer.v1.storage.StorageView;
+import net.fabricmc.fabric.api.transfer.v1.storage.base.SingleSlotStorage;
+import net.fabricmc.fabric.api.transfer.v1.transaction.TransactionContext;
+import net.minecraft.core.Direction;
+import niv.burning.api.BurningRateLimited;
+import niv.burning.api.BurningStorageListener;
+import niv.burning.api.FuelVariant;
+import niv.burning.api.ListenableBurningStorage;
+
+/**
+ * Token buckets limiting the insertions into a burning storage, one for the
+ * whole storage and one per side, along with the storage views exposed through
+ * each limited side.
+ *
+ * <p>
+ * Buckets are refilled from the clock of the owner, usually the game time of
+ * its level, and are not refilled while the clock is negative, that is not
+ * available.
+ */
+@Internal
+public final class RateLimits<S extends SingleSlotStorage<FuelVariant> & BurningRateLimited & ListenableBurningStorage> {
+
+    private static final int WHOLE = Direction.values().length;
+
+    private final S owner;
+
+    private final LongSupplier clock;
+
+    private final Inserter inserter;
+
+    private final @Nullable TokenBucket[] buckets = new TokenBucket[WHOLE + 1];
+
+    private final @Nullable SideView[] views = new SideView[WHOLE];
+
+    public RateLimits(S owner, LongSupplier clock, Inserter inserter) {
+        this.owner = owner;
+        this.clock = clock;
+        this.inserter = inserter;
+    }
+
+    private static int indexOf(@Nullable Direction side) {
+        return side == null ? WHOLE : side.ordinal();
+    }
+
+    public void set(@Nullable Direction side, long rate, long burst) {
+        StoragePreconditions.notNegative(rate);
+        StoragePreconditions.notNegative(burst);
+        this.buckets[indexOf(side)] = new TokenBucket(rate, burst);
+    }
+
+    public void remove(@Nullable Direction side) {
+        this.buckets[indexOf(side)] = null;
+    }
+
+    public boolean isEmpty() {
+        for (var bucket : this.buckets)
+            if (bucket != null)
+                return false;
+        return true;
+    }
+
+    public SingleSlotStorage<FuelVariant> forSide(@Nullable Direction side) {
+        if (side == null || this.buckets[side.ordinal()] == null)
+            return this.owner;
+        var view = this.views[side.ordinal()];
+        if (view == null)
+            this.views[side.ordinal()] = view = new SideView(side);
+        return view;
+    }
+
+    /**
+     * Return how much can be inserted through {@code side} now.
+     *
+     * @param side a side, or null for the whole storage
+     * @return a non-negative amount
+     */
+    public long available(@Nullable Direction side) {
+        var time = this.clock.getAsLong();
+        var result = Long.MAX_VALUE;
+        var whole = this.buckets[WHOLE];
+        if (whole != null)
+            result = whole.refill(time);
+        var sided = side == null ? null : this.buckets[side.ordinal()];
+        if (sided != null)
+            result = Math.min(result, sided.refill(time));
+        return result;
+    }
+
+    /**
+     * Takes {@code amount} tokens from the buckets of {@code side}, recording
+     * them so that they are given back if {@code transaction} is aborted.
+     *
+     * @param side        a side, or null for the whole storage
+     * @param amount      a non-negative amount, not greater than
+     *                    {@link #available}
+     * @param transaction a non-null open transaction
+     */
+    public void consume(@Nullable Direction side, long amount, TransactionContext transaction) {
+        if (amount <= 0L)
+            return;
+        var whole = this.buckets[WHOLE];
+        if (whole != null)
+            whole.consume(amount, transaction);
+        var sided = side == null ? null : this.buckets[side.ordinal()];
+        if (sided != null)
+            sided.consume(amount, transaction);
+    }
+
+    /**
+     * Inserts into the owner storage, through the given side.
+     */
+    @FunctionalInterface
+    public interface Inserter {
+        long insert(FuelVariant resource, long maxAmount, TransactionContext transaction, @Nullable Direction side);
+    }
+
+    private static final class TokenBucket implements BurningJournal.Entry {
+
+        private final long rate;
+
+        private final long burst;
+
+        private long tokens;
+
+        private long time = Long.MIN_VALUE;
+
+        private long journalFrame = 0L;
+
+        private TokenBucket(long rate, long burst) {
+            this.rate = rate;
+            this.burst = burst;
+            this.tokens = burst;
+        }
+
+        /*
+         * Refilling depends on time only, thus it is not recorded
+         */
+        private long refill(long now) {
+            if (now < 0L)
+                return this.tokens;
+            if (this.time != Long.MIN_VALUE && now > this.time && this.tokens < this.burst && this.rate > 0L) {
+                var elapsed = now - this.time;
+                var missing = this.burst - this.tokens;
+                this.tokens = elapsed >= missing / this.rate + 1L ? this.burst : this.tokens + elapsed * this.rate;
+            }
+            this.time = now;
+            return this.tokens;
+        }
+
+        private void consume(long amount, TransactionContext transaction) {
+            BurningJournal.record(this, transaction);
+            this.tokens -= amount;
+        }
+
+        @Override
+        public long getJournalFrame() {
+            return this.journalFrame;
+        }
+
+        @Override
+        public void setJournalFrame(long frame) {
+            this.journalFrame = frame;
+        }
+
+        @Override
+        public int getJournalKey() {
+            return 0;
+        }
+
+        @Override
+        public long getJournalValue() {
+            return this.tokens;
+        }
+
+        @Override
+        public void restoreJournal(int key, long value) {
+            this.tokens = value;
+        }
+
+        @Override
+        public void onJournalCommit() {
+            // Nothing to notify
+        }
+    }
+
+    private final class SideView
+            implements SingleSlotStorage<FuelVariant>, BurningRateLimited, ListenableBurningStorage {
+
+        private final Direction side;
+
+        private SideView(Direction side) {
+            this.side = side;
+        }
+
+        @Override
+        public boolean supportsInsertion() {
+            return RateLimits.this.owner.supportsInsertion();
+        }
+
+        @Override
+        public long insert(FuelVariant resource, long maxAmount, TransactionContext transaction) {
+            return RateLimits.this.inserter.insert(resource, maxAmount, transaction, this.side);
+        }
+
+        @Override
+        public boolean supportsExtraction() {
+            return RateLimits.this.owner.supportsExtraction();
+        }
+
+        @Override
+        public long extract(FuelVariant resource, long maxAmount, TransactionContext transaction) {
+            return RateLimits.this.owner.extract(resource, maxAmount, transaction);
+        }
+
+        @Override
+        public Iterator<StorageView<FuelVariant>> iterator() {
+            return RateLimits.this.owner.iterator();
+        }
+
+        @Override
+        public boolean isResourceBlank() {
+            return RateLimits.this.owner.isResourceBlank();
+        }
+
+        @Override
+        public FuelVariant getResource() {
+            return RateLimits.this.owner.getResource();
+        }
+
+        @Override
+        public long getAmount() {
+            return RateLimits.this.owner.getAmount();
+        }
+
+        @Override
+        public long getCapacity() {
+            return RateLimits.this.owner.getCapacity();
+        }
+
+        @Override
+        public void setRateLimit(@Nullable Direction side, long rate, long burst) {
+            RateLimits.this.owner.setRateLimit(side, rate, burst);
+        }
+
+        @Override
+        public void removeRateLimit(@Nullable Direction side) {
+            RateLimits.this.owner.removeRateLimit(side);
+        }
+
+        @Override
+        public boolean isRateLimited() {
+            return RateLimits.this.owner.isRateLimited();
+        }
+
+        @Override
+        public Storage<FuelVariant> forSide(@Nullable Direction side) {
+            return RateLimits.this.owner.forSide(side);
+        }
+
+        @Override
+        public void addListener(BurningStorageListener listener) {
+            RateLimits.this.owner.addListener(listener);
+        }
+
+        @Override
+        public void removeListener(BurningStorageListener listener) {
+            RateLimits.this.owner.removeListener(listener);
+        }
+    }
+}
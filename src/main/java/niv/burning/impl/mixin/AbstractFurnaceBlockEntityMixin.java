@@ -12,14 +12,13 @@ import com.llamalad7.mixinextras.sugar.Local;
 
 import net.fabricmc.fabric.api.transfer.v1.storage.Storage;
 import net.minecraft.core.Direction;
-import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
-import net.minecraft.world.item.Items;
 import net.minecraft.world.level.block.entity.AbstractFurnaceBlockEntity;
 import net.minecraft.world.level.block.entity.BlockEntity;
-import niv.burning.api.BurningTags;
+import niv.burning.api.FuelSnapshot;
 import niv.burning.api.FuelVariant;
 import niv.burning.impl.AbstractFurnaceBlockEntityExtension;
+import niv.burning.impl.BurningBlacklist;
 import niv.burning.impl.DefaultFurnaceStorage;
 
 @Mixin(AbstractFurnaceBlockEntity.class)
@@ -33,30 +32,57 @@ class AbstractFurnaceBlockEntityMixin implements AbstractFurnaceBlockEntityExten
     private static final String SERVER_LEVEL = "Lnet/minecraft/server/level/ServerLevel;";
 
     @Unique
-    private Storage<FuelVariant> internalBurningStorage;
+    private DefaultFurnaceStorage internalBurningStorage;
 
     @Unique
-    private Item internalLastBurnedFuel = Items.AIR;
+    private FuelVariant internalLastBurnedFuel = FuelVariant.BLANK;
+
+    /*
+     * Generation of the fuel snapshot the last burned fuel was resolved with
+     */
+    @Unique
+    private long internalLastBurnedGeneration = -1L;
+
+    /*
+     * Last blacklist generation checked, shifted left by one, with the outcome
+     * of the check in the lowest bit.
+     */
+    @Unique
+    private int internalBlacklistCache = 0;
 
     @Unique
     @Override
-    public Item getInternalBurningFuel() {
+    public FuelVariant getInternalBurningFuel() {
+        var generation = FuelSnapshot.current().getGeneration();
+        if (this.internalLastBurnedGeneration != generation) {
+            // Fuel values changed, the fuel may not be one anymore
+            var fuel = this.internalLastBurnedFuel;
+            this.internalLastBurnedFuel = fuel.isBlank() ? FuelVariant.BLANK : FuelVariant.of(fuel.getFuel());
+            this.internalLastBurnedGeneration = generation;
+        }
         return this.internalLastBurnedFuel;
     }
 
     @Unique
     @Override
-    public void setInternalBurningFuel(Item fuel) {
-        this.internalLastBurnedFuel = fuel == null ? Items.AIR : fuel;
+    public void setInternalBurningFuel(FuelVariant fuel) {
+        this.internalLastBurnedFuel = fuel == null ? FuelVariant.BLANK : fuel;
+        this.internalLastBurnedGeneration = FuelSnapshot.current().getGeneration();
     }
 
     @Override
     public @Nullable Storage<FuelVariant> getBurningStorage(@Nullable Direction direction) {
-        if (((BlockEntity) (Object) this).getBlockState().is(BurningTags.BLACKLIST))
+        var blacklist = BurningBlacklist.get();
+        var cache = this.internalBlacklistCache;
+        if ((cache >>> 1) != blacklist.getGeneration()) {
+            var blacklisted = blacklist.contains(((BlockEntity) (Object) this).getBlockState().getBlock());
+            this.internalBlacklistCache = cache = blacklist.getGeneration() << 1 | (blacklisted ? 1 : 0);
+        }
+        if ((cache & 1) != 0)
             return null;
         if (this.internalBurningStorage == null)
             this.internalBurningStorage = new DefaultFurnaceStorage(((AbstractFurnaceBlockEntity) (Object) this));
-        return this.internalBurningStorage;
+        return this.internalBurningStorage.forSide(direction);
     }
 
     @Inject( //
@@ -66,6 +92,6 @@ class AbstractFurnaceBlockEntityMixin implements AbstractFurnaceBlockEntityExten
     private static void injectAfterGetBurnDuration(CallbackInfo info,
             @Local AbstractFurnaceBlockEntity entity,
             @Local(ordinal = 0) ItemStack itemStack) {
-        entity.setInternalBurningFuel(itemStack.getItem());
+        entity.setInternalBurningFuel(FuelVariant.of(itemStack));
     }
 }
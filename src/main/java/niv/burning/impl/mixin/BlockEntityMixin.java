@@ -0,0 +1,29 @@
+package niv.burning.impl.mixin;
+
+import org.jetbrains.annotations.Nullable;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+
+import net.fabricmc.fabric.api.transfer.v1.storage.Storage;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import niv.burning.api.FuelVariant;
+import niv.burning.impl.BlockEntityExtension;
+
+@Mixin(BlockEntity.class)
+class BlockEntityMixin implements BlockEntityExtension {
+
+    @Unique
+    private Storage<FuelVariant> internalDynamicStorage;
+
+    @Unique
+    @Override
+    public @Nullable Storage<FuelVariant> getInternalDynamicStorage() {
+        return this.internalDynamicStorage;
+    }
+
+    @Unique
+    @Override
+    public void setInternalDynamicStorage(@Nullable Storage<FuelVariant> storage) {
+        this.internalDynamicStorage = storage;
+    }
+}
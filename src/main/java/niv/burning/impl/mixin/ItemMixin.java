@@ -0,0 +1,28 @@
+package niv.burning.impl.mixin;
+
+import org.jetbrains.annotations.Nullable;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+
+import net.minecraft.world.item.Item;
+import niv.burning.impl.DefaultFuelVariant;
+import niv.burning.impl.ItemExtension;
+
+@Mixin(Item.class)
+class ItemMixin implements ItemExtension {
+
+    @Unique
+    private volatile DefaultFuelVariant internalFuelVariant;
+
+    @Unique
+    @Override
+    public @Nullable DefaultFuelVariant getInternalFuelVariant() {
+        return this.internalFuelVariant;
+    }
+
+    @Unique
+    @Override
+    public void setInternalFuelVariant(DefaultFuelVariant variant) {
+        this.internalFuelVariant = variant;
+    }
+}
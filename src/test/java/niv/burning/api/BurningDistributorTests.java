@@ -0,0 +1,116 @@
+package niv.burning.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import net.fabricmc.fabric.api.transfer.v1.transaction.Transaction;
+import net.minecraft.SharedConstants;
+import net.minecraft.server.Bootstrap;
+import niv.burning.api.BurningDistributor.Strategy;
+import niv.burning.api.base.SimpleBurningStorage;
+import niv.burning.impl.CommonUtils;
+
+class BurningDistributorTests {
+
+    @BeforeAll
+    static void setup() {
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+        CommonUtils.initialize();
+    }
+
+    private static SimpleBurningStorage storage(long amount) {
+        var storage = new SimpleBurningStorage();
+        if (amount > 0)
+            storage.addTicks(FuelVariant.BLAZE_ROD, amount);
+        return storage;
+    }
+
+    @Test
+    void testFillFirst() {
+        var source = storage(2400);
+        var targets = List.of(storage(0), storage(2000), storage(2400));
+        var distributor = new BurningDistributor(Strategy.FILL_FIRST);
+
+        assertEquals(1000, distributor.distribute(source, targets, 1000, null));
+        assertEquals(1400, source.getAmount());
+        assertEquals(1000, targets.get(0).getAmount());
+        assertEquals(2000, targets.get(1).getAmount());
+        assertEquals(2400, targets.get(2).getAmount());
+    }
+
+    @Test
+    void testRoundRobin() {
+        var source = storage(2400);
+        var targets = List.of(storage(0), storage(2000), storage(2400));
+        var distributor = new BurningDistributor(Strategy.ROUND_ROBIN);
+
+        assertEquals(900, distributor.distribute(source, targets, 900, null));
+        assertEquals(1500, source.getAmount());
+        assertEquals(500, targets.get(0).getAmount());
+        assertEquals(2400, targets.get(1).getAmount());
+        assertEquals(2400, targets.get(2).getAmount());
+    }
+
+    @Test
+    void testProportional() {
+        var source = storage(2400);
+        var targets = List.of(storage(0), storage(2000), storage(2400));
+        var distributor = new BurningDistributor(Strategy.PROPORTIONAL);
+
+        assertEquals(1400, distributor.distribute(source, targets, 1400, null));
+        assertEquals(1000, source.getAmount());
+        assertEquals(1200, targets.get(0).getAmount());
+        assertEquals(2200, targets.get(1).getAmount());
+        assertEquals(2400, targets.get(2).getAmount());
+    }
+
+    @Test
+    void testLimitedBySourceAndAborted() {
+        var source = storage(300);
+        var targets = List.of(storage(0), storage(0));
+        var distributor = new BurningDistributor(Strategy.FILL_FIRST);
+
+        try (var transaction = Transaction.openOuter()) {
+            assertEquals(300, distributor.distribute(source, targets, 5000, transaction));
+            assertEquals(0, source.getAmount());
+            assertEquals(300, targets.get(0).getAmount());
+        }
+        assertEquals(300, source.getAmount());
+        assertEquals(0, targets.get(0).getAmount());
+        assertEquals(0, targets.get(1).getAmount());
+    }
+
+    @Test
+    void testRefusedShares() {
+        var source = storage(2400);
+        var target = storage(1200);
+        var other = storage(0);
+        var distributor = new BurningDistributor(Strategy.FILL_FIRST);
+
+        // the second share of the same target is refused, and goes to the next one
+        assertEquals(2400, distributor.distribute(source, List.of(target, target, other), 2400, null));
+        assertEquals(0, source.getAmount());
+        assertEquals(2400, target.getAmount());
+        assertEquals(1200, other.getAmount());
+    }
+
+    @Test
+    void testRateLimitedTarget() {
+        var source = storage(2400);
+        var limited = new SimpleBurningStorage(() -> 0L);
+        limited.setRateLimit(null, 0, 100);
+        var other = storage(100);
+        var distributor = new BurningDistributor(Strategy.PROPORTIONAL);
+
+        // free capacity of limited targets is simulated
+        assertEquals(1000, distributor.distribute(source, List.of(limited, other), 1000, null));
+        assertEquals(1400, source.getAmount());
+        assertEquals(42, limited.getAmount());
+        assertEquals(1058, other.getAmount());
+    }
+}
@@ -0,0 +1,79 @@
+package niv.burning.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import net.fabricmc.fabric.api.transfer.v1.item.InventoryStorage;
+import net.fabricmc.fabric.api.transfer.v1.storage.base.FilteringStorage;
+import net.fabricmc.fabric.api.transfer.v1.transaction.Transaction;
+import net.minecraft.SharedConstants;
+import net.minecraft.server.Bootstrap;
+import net.minecraft.world.SimpleContainer;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import niv.burning.api.base.SimpleBurningStorage;
+import niv.burning.impl.CommonUtils;
+
+class BurningStorageUtilTests {
+
+    @BeforeAll
+    static void setup() {
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+        CommonUtils.initialize();
+    }
+
+    @Test
+    void testConvert() {
+        var container = new SimpleContainer(
+                new ItemStack(Items.DIRT, 2),
+                new ItemStack(Items.STICK, 3),
+                new ItemStack(Items.COAL, 2));
+        var items = InventoryStorage.of(container, null);
+        var storage = new SimpleBurningStorage();
+
+        // only whole items accepted by the storage are burnt
+        assertEquals(100, BurningStorageUtil.convert(items, storage, 1000, null));
+        assertEquals(Items.STICK, storage.getResource().getFuel());
+        assertEquals(100, storage.getAmount());
+        assertEquals(2, container.getItem(1).getCount());
+        assertEquals(2, container.getItem(2).getCount());
+
+        assertEquals(0, BurningStorageUtil.convert(items, storage, 5000, null));
+        assertEquals(100, storage.consumeTicks(100));
+
+        // aborted conversions are rolled back on both sides
+        try (var transaction = Transaction.openOuter()) {
+            assertEquals(100, BurningStorageUtil.convert(items, storage, 5000, transaction));
+            assertEquals(1, container.getItem(1).getCount());
+        }
+        assertEquals(2, container.getItem(1).getCount());
+        assertEquals(0, storage.getAmount());
+
+        // fuels longer than the target are skipped
+        assertEquals(100, BurningStorageUtil.convert(items, storage, 1500, null));
+        assertEquals(1, container.getItem(1).getCount());
+        assertEquals(2, container.getItem(2).getCount());
+        assertEquals(2, container.getItem(0).getCount());
+    }
+
+    @Test
+    void testConvertRemainders() {
+        var container = new SimpleContainer(new ItemStack(Items.LAVA_BUCKET));
+        var items = InventoryStorage.of(container, null);
+        var storage = new SimpleBurningStorage();
+
+        // fuels whose remainders do not fit are not burnt
+        assertEquals(0, BurningStorageUtil.convert(FilteringStorage.extractOnlyOf(items), storage, 20000, null));
+        assertEquals(Items.LAVA_BUCKET, container.getItem(0).getItem());
+        assertEquals(0, storage.getAmount());
+
+        // remainders are kept, as in furnaces
+        assertEquals(20000, BurningStorageUtil.convert(items, storage, 20000, null));
+        assertEquals(Items.LAVA_BUCKET, storage.getResource().getFuel());
+        assertEquals(Items.BUCKET, container.getItem(0).getItem());
+        assertEquals(1, container.getItem(0).getCount());
+    }
+}
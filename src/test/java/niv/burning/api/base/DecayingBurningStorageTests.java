@@ -0,0 +1,159 @@
+package niv.burning.api.base;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import net.fabricmc.fabric.api.transfer.v1.transaction.Transaction;
+import net.minecraft.SharedConstants;
+import net.minecraft.core.HolderLookup;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.server.Bootstrap;
+import net.minecraft.util.ProblemReporter;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.level.storage.TagValueInput;
+import net.minecraft.world.level.storage.TagValueOutput;
+import niv.burning.api.FuelVariant;
+import niv.burning.impl.CommonUtils;
+
+class DecayingBurningStorageTests {
+
+    @BeforeAll
+    static void setup() {
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+        CommonUtils.initialize();
+    }
+
+    @Test
+    void testDecay() {
+        var time = new long[] { 0L };
+        var storage = new DecayingBurningStorage(() -> time[0], 2L);
+        var coal = FuelVariant.of(Items.COAL);
+
+        try (var transaction = Transaction.openOuter()) {
+            assertEquals(1600, storage.insert(coal, 1600, transaction));
+            transaction.commit();
+        }
+
+        time[0] = 100L;
+        assertEquals(Items.COAL, storage.getResource().getFuel());
+        assertEquals(1400, storage.getAmount());
+
+        // aborted changes restore the settled amount
+        try (var transaction = Transaction.openOuter()) {
+            assertEquals(400, storage.extract(coal, 400, transaction));
+            assertEquals(1000, storage.getAmount());
+        }
+        assertEquals(1400, storage.getAmount());
+
+        time[0] = 200L;
+        assertEquals(1200, storage.getAmount());
+
+        // inserting after decay does not burn twice
+        try (var transaction = Transaction.openOuter()) {
+            assertEquals(400, storage.insert(coal, 400, transaction));
+            transaction.commit();
+        }
+        assertEquals(1600, storage.getAmount());
+
+        time[0] = 300L;
+        assertEquals(1400, storage.getAmount());
+        assertEquals(100, storage.consumeTicks(100));
+        assertEquals(1300, storage.getAmount());
+
+        storage.setRate(0L);
+        time[0] = 1000L;
+        assertEquals(1300, storage.getAmount());
+
+        storage.setRate(1L);
+        time[0] = 3000L;
+        assertEquals(0, storage.getAmount());
+        assertEquals(0, storage.getCapacity());
+        assertTrue(storage.isResourceBlank());
+    }
+
+    @Test
+    void testUnavailableClock() {
+        var time = new long[] { -1L };
+        var storage = new DecayingBurningStorage(() -> time[0], 1L);
+
+        assertEquals(1000, storage.addTicks(FuelVariant.of(Items.COAL), 1000));
+        assertEquals(1000, storage.getAmount());
+        assertFalse(storage.isStarted());
+
+        // time starts when the owner says so, not when read
+        time[0] = 50L;
+        assertEquals(1000, storage.getAmount());
+        assertFalse(storage.isStarted());
+        storage.start();
+        time[0] = 60L;
+        assertEquals(990, storage.getAmount());
+
+        // and stands still while not available
+        assertEquals(10, storage.consumeTicks(10));
+        time[0] = -1L;
+        assertEquals(980, storage.getAmount());
+    }
+
+    @Test
+    void testLoad() {
+        var lookup = HolderLookup.Provider.create(Stream.of(BuiltInRegistries.ITEM));
+        var time = new long[] { 0L };
+        var storage = new DecayingBurningStorage(() -> time[0], 2L);
+        storage.start();
+        assertEquals(1600, storage.addTicks(FuelVariant.of(Items.COAL), 1600));
+
+        time[0] = 100L;
+        var output = TagValueOutput.createWithoutContext(ProblemReporter.DISCARDING);
+        storage.save(output);
+        var tag = output.buildResult();
+
+        // loaded before its level is set, burning starts along with the level
+        time[0] = -1L;
+        var loaded = new DecayingBurningStorage(() -> time[0], 2L);
+        loaded.load(TagValueInput.create(ProblemReporter.DISCARDING, lookup, tag));
+        assertFalse(loaded.isStarted());
+        assertEquals(Items.COAL, loaded.getResource().getFuel());
+        assertEquals(1400, loaded.getAmount());
+        time[0] = 5000L;
+        loaded.start();
+
+        // first read long after loading
+        time[0] = 5100L;
+        assertEquals(1200, loaded.getAmount());
+
+        // loaded with the clock available, burning starts at once
+        var reloaded = new DecayingBurningStorage(() -> time[0], 2L);
+        reloaded.load(TagValueInput.create(ProblemReporter.DISCARDING, lookup, tag));
+        assertTrue(reloaded.isStarted());
+        time[0] = 5200L;
+        assertEquals(1200, reloaded.getAmount());
+    }
+
+    @Test
+    void testRateLimits() {
+        var time = new long[] { 0L };
+        var storage = new DecayingBurningStorage(() -> time[0], 1L);
+        storage.setRateLimit(null, 100, 300);
+
+        try (var transaction = Transaction.openOuter()) {
+            assertEquals(300, storage.insert(FuelVariant.of(Items.COAL), 1000, transaction));
+            transaction.commit();
+        }
+
+        // both decay and limits follow the same clock
+        time[0] = 2L;
+        assertEquals(298, storage.getAmount());
+        try (var transaction = Transaction.openOuter()) {
+            assertEquals(200, storage.insert(FuelVariant.of(Items.COAL), 1000, transaction));
+            transaction.commit();
+        }
+        assertEquals(498, storage.getAmount());
+    }
+}
@@ -2,16 +2,27 @@ package niv.burning.api.base;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
+import net.fabricmc.fabric.api.transfer.v1.storage.base.ResourceAmount;
 import net.fabricmc.fabric.api.transfer.v1.transaction.Transaction;
 import net.minecraft.SharedConstants;
+import net.minecraft.core.Direction;
+import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.server.Bootstrap;
 import net.minecraft.world.item.Items;
+import niv.burning.api.BurningRateLimited;
+import niv.burning.api.BurningStorageListener;
 import niv.burning.api.FuelVariant;
+import niv.burning.api.ListenableBurningStorage;
 import niv.burning.impl.CommonUtils;
 
 class SimpleBurningStorageTests {
@@ -237,4 +248,240 @@ class SimpleBurningStorageTests {
             assertFalse(storage.getResource().isBlank());
         }
     }
+
+    @Test
+    void testNestedTransactions() {
+        var commits = new int[1];
+        var storage = new SimpleBurningStorage() {
+            @Override
+            protected void onFinalCommit() {
+                commits[0]++;
+            }
+        };
+        var other = new SimpleBurningStorage();
+
+        try (var outer = Transaction.openOuter()) {
+            assertEquals(800, storage.insert(FuelVariant.COAL, 800, outer));
+
+            // aborted nested changes are rolled back to the outer state
+            try (var nested = outer.openNested()) {
+                assertEquals(1600, storage.insert(FuelVariant.BLAZE_ROD, 2000, nested));
+                assertEquals(600, other.insert(FuelVariant.COAL, 600, nested));
+            }
+            assertEquals(Items.COAL, storage.getResource().getFuel());
+            assertEquals(800, storage.getAmount());
+            assertEquals(0, other.getAmount());
+
+            // committed nested changes are merged into the outer transaction
+            try (var nested = outer.openNested()) {
+                try (var inner = nested.openNested()) {
+                    assertEquals(600, other.insert(FuelVariant.COAL, 600, inner));
+                    inner.commit();
+                }
+                assertEquals(1600, storage.insert(FuelVariant.BLAZE_ROD, 1600, nested));
+                nested.commit();
+            }
+            assertEquals(Items.BLAZE_ROD, storage.getResource().getFuel());
+            assertEquals(2400, storage.getAmount());
+            assertEquals(600, other.getAmount());
+        }
+        assertTrue(storage.isResourceBlank());
+        assertEquals(0, storage.getAmount());
+        assertEquals(0, other.getAmount());
+        assertEquals(0, commits[0]);
+
+        try (var outer = Transaction.openOuter()) {
+            storage.insert(FuelVariant.COAL, 800, outer);
+            try (var nested = outer.openNested()) {
+                storage.extract(FuelVariant.COAL, 200, nested);
+                nested.commit();
+            }
+            outer.commit();
+        }
+        assertEquals(600, storage.getAmount());
+        assertEquals(1, commits[0]);
+    }
+
+    @Test
+    void testOwnerApi() {
+        var commits = new int[1];
+        var storage = new SimpleBurningStorage() {
+            @Override
+            protected void onFinalCommit() {
+                commits[0]++;
+            }
+        };
+
+        assertEquals(0, storage.maxInsertable(FuelVariant.BLANK));
+        assertEquals(1600, storage.maxInsertable(FuelVariant.COAL));
+        assertEquals(0, storage.maxExtractable(FuelVariant.COAL));
+        assertEquals(0, storage.consumeTicks(100));
+        assertEquals(0, commits[0]);
+
+        assertEquals(1000, storage.addTicks(FuelVariant.COAL, 1000));
+        assertEquals(1, commits[0]);
+        assertEquals(Items.COAL, storage.getResource().getFuel());
+        assertEquals(600, storage.maxInsertable(FuelVariant.COAL));
+        assertEquals(1400, storage.maxInsertable(FuelVariant.BLAZE_ROD));
+        assertEquals(1000, storage.maxExtractable(FuelVariant.COAL));
+
+        // a mismatched resource agrees with a simulated extraction
+        long extractable;
+        try (var transaction = Transaction.openOuter()) {
+            extractable = storage.extract(FuelVariant.BLAZE_ROD, Long.MAX_VALUE, transaction);
+        }
+        assertEquals(extractable, storage.maxExtractable(FuelVariant.BLAZE_ROD));
+        assertEquals(1000, storage.getAmount());
+
+        assertEquals(200, storage.consumeTicks(200));
+        assertEquals(800, storage.getAmount());
+        assertEquals(800, storage.consumeTicks(1000));
+        assertTrue(storage.isResourceBlank());
+        assertEquals(3, commits[0]);
+
+        try (var transaction = Transaction.openOuter()) {
+            assertThrows(IllegalStateException.class, () -> storage.addTicks(FuelVariant.COAL, 100));
+            assertThrows(IllegalStateException.class, () -> storage.consumeTicks(100));
+            assertThrows(IllegalStateException.class, () -> storage.maxInsertable(FuelVariant.COAL));
+            assertThrows(IllegalStateException.class, () -> storage.maxExtractable(FuelVariant.COAL));
+        }
+        assertEquals(3, commits[0]);
+    }
+
+    @Test
+    void testRateLimits() {
+        assertThrows(IllegalStateException.class, () -> new SimpleBurningStorage().setRateLimit(null, 100, 300));
+
+        // the clock stands still until said otherwise
+        var time = new long[] { 0L };
+        var storage = new SimpleBurningStorage(() -> time[0]);
+        storage.setRateLimit(null, 100, 300);
+        assertEquals(300, storage.maxInsertable(FuelVariant.COAL));
+
+        // tokens taken by aborted transactions are given back
+        try (var transaction = Transaction.openOuter()) {
+            assertEquals(300, storage.insert(FuelVariant.COAL, 1000, transaction));
+            assertEquals(0, storage.insert(FuelVariant.COAL, 1000, transaction));
+        }
+        try (var transaction = Transaction.openOuter()) {
+            assertEquals(300, storage.insert(FuelVariant.COAL, 1000, transaction));
+            transaction.commit();
+        }
+        try (var transaction = Transaction.openOuter()) {
+            assertEquals(0, storage.insert(FuelVariant.COAL, 1000, transaction));
+        }
+        assertEquals(0, storage.maxInsertable(FuelVariant.COAL));
+
+        // side limits apply on top of the storage one
+        storage.removeRateLimit(null);
+        storage.setRateLimit(Direction.NORTH, 10, 50);
+        assertSame(storage, storage.forSide(null));
+        assertSame(storage, storage.forSide(Direction.SOUTH));
+        var north = storage.forSide(Direction.NORTH);
+        try (var transaction = Transaction.openOuter()) {
+            assertEquals(50, north.insert(FuelVariant.COAL, 1000, transaction));
+            assertEquals(0, north.insert(FuelVariant.COAL, 1000, transaction));
+            assertEquals(1000, storage.insert(FuelVariant.COAL, 1000, transaction));
+            transaction.commit();
+        }
+        assertEquals(1350, storage.getAmount());
+        assertTrue(north instanceof BurningRateLimited);
+        assertTrue(north instanceof ListenableBurningStorage);
+
+        // limits are refilled from the clock of the storage
+        var clocked = new SimpleBurningStorage(() -> time[0]);
+        clocked.setRateLimit(null, 100, 300);
+        try (var transaction = Transaction.openOuter()) {
+            assertEquals(300, clocked.insert(FuelVariant.COAL, 1000, transaction));
+            transaction.commit();
+        }
+        time[0] = 2L;
+        assertEquals(200, clocked.maxInsertable(FuelVariant.COAL));
+        try (var transaction = Transaction.openOuter()) {
+            assertEquals(200, clocked.insert(FuelVariant.COAL, 1000, transaction));
+            transaction.commit();
+        }
+        assertEquals(500, clocked.getAmount());
+    }
+
+    @Test
+    void testListeners() {
+        var storage = new SimpleBurningStorage();
+        var changes = new ArrayList<String>();
+        BurningStorageListener listener = (source, oldResource, oldAmount, newResource, newAmount) -> {
+            assertSame(storage, source);
+            changes.add(BuiltInRegistries.ITEM.getKey(oldResource.getFuel()) + ":" + oldAmount + "->"
+                    + BuiltInRegistries.ITEM.getKey(newResource.getFuel()) + ":" + newAmount);
+        };
+        storage.addListener(listener);
+        storage.addListener(listener);
+
+        // aborted and no-op transactions are not reported
+        try (var transaction = Transaction.openOuter()) {
+            storage.insert(FuelVariant.COAL, 800, transaction);
+        }
+        try (var transaction = Transaction.openOuter()) {
+            storage.insert(FuelVariant.COAL, 800, transaction);
+            storage.extract(FuelVariant.COAL, 800, transaction);
+            transaction.commit();
+        }
+        assertTrue(changes.isEmpty());
+
+        // one report per commit, with the state before the transaction
+        try (var transaction = Transaction.openOuter()) {
+            try (var nested = transaction.openNested()) {
+                storage.insert(FuelVariant.COAL, 800, nested);
+                nested.commit();
+            }
+            storage.insert(FuelVariant.BLAZE_ROD, 1000, transaction);
+            transaction.commit();
+        }
+        assertEquals(List.of("minecraft:air:0->minecraft:blaze_rod:1800"), changes);
+
+        assertEquals(800, storage.consumeTicks(800));
+        assertEquals("minecraft:blaze_rod:1800->minecraft:blaze_rod:1000", changes.get(1));
+
+        storage.removeListener(listener);
+        storage.consumeTicks(100);
+        assertEquals(2, changes.size());
+    }
+
+    @Test
+    void testSnapshottingSubclass() {
+        var storage = new SimpleBurningStorage() {
+            int reads = 0;
+            int commits = 0;
+
+            @Override
+            protected void readSnapshot(ResourceAmount<FuelVariant> snapshot) {
+                this.reads++;
+                super.readSnapshot(snapshot);
+            }
+
+            @Override
+            protected void onFinalCommit() {
+                this.commits++;
+            }
+        };
+        var changes = new ArrayList<Long>();
+        storage.addListener((source, oldResource, oldAmount, newResource, newAmount) -> changes.add(newAmount));
+
+        // snapshot methods are called as documented
+        try (var transaction = Transaction.openOuter()) {
+            assertEquals(800, storage.insert(FuelVariant.COAL, 800, transaction));
+        }
+        assertEquals(1, storage.reads);
+        assertEquals(0, storage.getAmount());
+        assertTrue(storage.isResourceBlank());
+
+        // and the final commit is notified once
+        try (var transaction = Transaction.openOuter()) {
+            assertEquals(800, storage.insert(FuelVariant.COAL, 800, transaction));
+            transaction.commit();
+        }
+        assertEquals(1, storage.reads);
+        assertEquals(1, storage.commits);
+        assertEquals(800, storage.getAmount());
+        assertEquals(List.of(800L), changes);
+    }
 }
@@ -73,6 +73,7 @@ public class CommonUtils {
             Burning.fuelValuesGetter = () -> getter;
             return getter;
         };
+        Burning.fuelTable = null;
     }
 
     private static final class OpenFuelValues extends FuelValues {
@@ -82,7 +83,7 @@ public class CommonUtils {
     }
 
     public static DynamicFurnaceStorage newDynamicFurnace() {
-        return new DynamicFurnaceStorage(PROVIDER,
+        return new DynamicFurnaceStorage(PROVIDER, PROVIDER.getFields(FurnaceBlockEntity.class).orElseThrow(),
                 new FurnaceBlockEntity(BlockPos.ZERO, Blocks.FURNACE.defaultBlockState()));
     }
 
@@ -7,13 +7,14 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
-import net.fabricmc.fabric.api.transfer.v1.storage.base.ResourceAmount;
 import net.fabricmc.fabric.api.transfer.v1.transaction.Transaction;
 import net.minecraft.SharedConstants;
 import net.minecraft.core.BlockPos;
 import net.minecraft.server.Bootstrap;
 import net.minecraft.world.item.Items;
 import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.entity.AbstractFurnaceBlockEntity;
+import net.minecraft.world.level.block.entity.BlastFurnaceBlockEntity;
 import net.minecraft.world.level.block.entity.FurnaceBlockEntity;
 import niv.burning.api.FuelVariant;
 
@@ -80,7 +81,7 @@ class DefaultFurnaceStorageTests {
         assertFalse(storage.getResource().isBlank());
 
         // test insertion into full
-        ((DefaultFurnaceStorage) storage).readSnapshot(new ResourceAmount<>(FuelVariant.BLAZE_ROD, 2400));
+        ((DefaultFurnaceStorage) storage).restore(FuelVariant.BLAZE_ROD, 2400);
         try (var transaction = Transaction.openOuter()) {
             assertEquals(0, storage.insert(FuelVariant.of(Items.BLAZE_ROD), 1200, transaction));
             transaction.commit();
@@ -97,7 +98,7 @@ class DefaultFurnaceStorageTests {
     @Test
     void testOverInsertion() {
         var storage = newInstance();
-        ((DefaultFurnaceStorage) storage).readSnapshot(new ResourceAmount<>(FuelVariant.BLAZE_ROD, 1800));
+        ((DefaultFurnaceStorage) storage).restore(FuelVariant.BLAZE_ROD, 1800);
 
         // test over-insertion with same variant
         try (var transaction = Transaction.openOuter()) {
@@ -139,7 +140,7 @@ class DefaultFurnaceStorageTests {
     @Test
     void testExtraction() {
         var storage = newInstance();
-        ((DefaultFurnaceStorage) storage).readSnapshot(new ResourceAmount<>(FuelVariant.BLAZE_ROD, 1800));
+        ((DefaultFurnaceStorage) storage).restore(FuelVariant.BLAZE_ROD, 1800);
 
         // test unsupported extraction
         try (var transaction = Transaction.openOuter()) {
@@ -154,7 +155,7 @@ class DefaultFurnaceStorageTests {
         assertFalse(storage.getResource().isBlank());
 
         // test unsupported extraction from empty
-        ((DefaultFurnaceStorage) storage).readSnapshot(new ResourceAmount<>(FuelVariant.BLAZE_ROD, 0));
+        ((DefaultFurnaceStorage) storage).restore(FuelVariant.BLAZE_ROD, 0);
         try (var transaction = Transaction.openOuter()) {
             assertEquals(0, storage.extract(FuelVariant.of(Items.BLAZE_ROD), 1200, transaction));
             transaction.commit();
@@ -167,4 +168,24 @@ class DefaultFurnaceStorageTests {
         assertFalse(storage.isResourceBlank());
         assertFalse(storage.getResource().isBlank());
     }
+
+    @Test
+    void testBurnDuration() {
+        var furnace = new FurnaceBlockEntity(BlockPos.ZERO, Blocks.FURNACE.defaultBlockState());
+        var blastFurnace = new BlastFurnaceBlockEntity(BlockPos.ZERO, Blocks.BLAST_FURNACE.defaultBlockState());
+        var coal = FuelVariant.of(Items.COAL);
+
+        // taken from the fuel table, or from the override
+        for (var entity : new AbstractFurnaceBlockEntity[] { furnace, blastFurnace }) {
+            var storage = new DefaultFurnaceStorage(entity);
+            try (var transaction = Transaction.openOuter()) {
+                assertEquals(1600, storage.insert(coal, 1600, transaction));
+                transaction.commit();
+            }
+            assertEquals(1600, storage.getAmount());
+            assertEquals(1600, storage.getCapacity());
+        }
+        assertEquals(1600, furnace.litTotalTime);
+        assertEquals(800, blastFurnace.litTotalTime);
+    }
 }
@@ -7,7 +7,6 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
-import net.fabricmc.fabric.api.transfer.v1.storage.base.ResourceAmount;
 import net.fabricmc.fabric.api.transfer.v1.transaction.Transaction;
 import net.minecraft.SharedConstants;
 import net.minecraft.server.Bootstrap;
@@ -77,7 +76,7 @@ class DynamicFurnaceStorageTests {
         assertFalse(storage.getResource().isBlank());
 
         // test insertion into full
-        ((DynamicFurnaceStorage) storage).readSnapshot(new ResourceAmount<>(FuelVariant.BLAZE_ROD, 2400));
+        ((DynamicFurnaceStorage) storage).restore(FuelVariant.BLAZE_ROD, 2400);
         try (var transaction = Transaction.openOuter()) {
             assertEquals(0, storage.insert(FuelVariant.of(Items.BLAZE_ROD), 1200, transaction));
             transaction.commit();
@@ -94,7 +93,7 @@ class DynamicFurnaceStorageTests {
     @Test
     void testOverInsertion() {
         var storage = newInstance();
-        ((DynamicFurnaceStorage) storage).readSnapshot(new ResourceAmount<>(FuelVariant.BLAZE_ROD, 1800));
+        ((DynamicFurnaceStorage) storage).restore(FuelVariant.BLAZE_ROD, 1800);
 
         // test over-insertion with same variant
         try (var transaction = Transaction.openOuter()) {
@@ -136,7 +135,7 @@ class DynamicFurnaceStorageTests {
     @Test
     void testExtraction() {
         var storage = newInstance();
-        ((DynamicFurnaceStorage) storage).readSnapshot(new ResourceAmount<>(FuelVariant.BLAZE_ROD, 1800));
+        ((DynamicFurnaceStorage) storage).restore(FuelVariant.BLAZE_ROD, 1800);
 
         // test unsupported extraction
         try (var transaction = Transaction.openOuter()) {
@@ -151,7 +150,7 @@ class DynamicFurnaceStorageTests {
         assertFalse(storage.getResource().isBlank());
 
         // test unsupported extraction from empty
-        ((DynamicFurnaceStorage) storage).readSnapshot(new ResourceAmount<>(FuelVariant.BLAZE_ROD, 0));
+        ((DynamicFurnaceStorage) storage).restore(FuelVariant.BLAZE_ROD, 0);
         try (var transaction = Transaction.openOuter()) {
             assertEquals(0, storage.extract(FuelVariant.of(Items.BLAZE_ROD), 1200, transaction));
             transaction.commit();
@@ -0,0 +1,65 @@
+package niv.burning.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import net.minecraft.SharedConstants;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.server.Bootstrap;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+
+class FuelTableTests {
+
+    @BeforeAll
+    static void setup() {
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+        CommonUtils.initialize();
+    }
+
+    @Test
+    void testMatchesFuelValues() {
+        var values = Burning.fuelValues();
+        var table = FuelTable.of(values, null);
+
+        for (var item : BuiltInRegistries.ITEM) {
+            var stack = new ItemStack(item);
+            assertEquals(values.isFuel(stack), table.isFuel(item), item::toString);
+            assertEquals(values.isFuel(stack) ? values.burnDuration(stack) : 0, table.getDuration(item),
+                    item::toString);
+        }
+    }
+
+    @Test
+    void testLookups() {
+        var table = Burning.fuelTable();
+
+        assertTrue(table.isFuel(Items.COAL));
+        assertEquals(1600, table.getDuration(Items.COAL));
+        assertTrue(table.isFuel(Items.LAVA_BUCKET));
+        assertEquals(20000, table.getDuration(Items.LAVA_BUCKET));
+
+        assertFalse(table.isFuel(Items.AIR));
+        assertEquals(0, table.getDuration(Items.AIR));
+        assertFalse(table.isFuel(Items.COBBLESTONE));
+        assertEquals(0, table.getDuration(Items.COBBLESTONE));
+    }
+
+    @Test
+    void testChangedSince() {
+        var values = Burning.fuelValues();
+        var first = FuelTable.of(values, null);
+        var second = FuelTable.of(values, first);
+
+        assertEquals(0L, first.getGeneration());
+        assertEquals(1L, second.getGeneration());
+
+        assertEquals(values.fuelItems(), first.changedSince(null));
+        assertTrue(second.changedSince(first).isEmpty());
+    }
+}
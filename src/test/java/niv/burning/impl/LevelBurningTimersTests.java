@@ -0,0 +1,317 @@
+package niv.burning.impl;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import net.fabricmc.fabric.api.transfer.v1.storage.StorageView;
+import net.fabricmc.fabric.api.transfer.v1.storage.base.SingleSlotStorage;
+import net.fabricmc.fabric.api.transfer.v1.transaction.TransactionContext;
+import net.minecraft.SharedConstants;
+import net.minecraft.server.Bootstrap;
+import niv.burning.api.BurningStorageListener;
+import niv.burning.api.BurningTimers.Subscription;
+import niv.burning.api.FuelVariant;
+import niv.burning.api.ListenableBurningStorage;
+
+class LevelBurningTimersTests {
+
+    private static final long[] DELAYS = {
+            1L, 2L, 63L, 64L, 65L,
+            4095L, 4096L, 4097L,
+            262143L, 262144L, 262145L,
+            16777215L, 16777216L, 16777217L };
+
+    @BeforeAll
+    static void setup() {
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+        CommonUtils.initialize();
+    }
+
+    @Test
+    void testCascade() {
+        for (var start : new long[] { 0L, 37L, 262141L }) {
+            for (var delay : DELAYS) {
+                var time = new long[] { start };
+                var timers = new LevelBurningTimers(() -> time[0]);
+                var storage = new FakeStorage(delay);
+                var fired = new boolean[1];
+                var subscription = timers.whenBelow(storage, 1L, 0L, (s, amount) -> fired[0] = true);
+
+                // Emptied silently, so that any early check fires
+                storage.set(0L);
+
+                var message = "start " + start + ", delay " + delay;
+                advanceTo(timers, time, start + delay - 1L);
+                assertFalse(fired[0], message);
+                assertTrue(subscription.isActive(), message);
+                advanceTo(timers, time, start + delay);
+                assertTrue(fired[0], message);
+                assertFalse(subscription.isActive(), message);
+                assertEquals(0, storage.listeners.length, message);
+            }
+        }
+    }
+
+    @Test
+    void testOverflow() {
+        var time = new long[] { 5L };
+        var timers = new LevelBurningTimers(() -> time[0]);
+        var delay = 3L * 16777216L + 11L;
+        var storage = new FakeStorage(delay);
+        var fired = new boolean[1];
+        timers.whenBelow(storage, 1L, 0L, (s, amount) -> fired[0] = true);
+        storage.set(0L);
+
+        advanceTo(timers, time, 5L + delay - 1L);
+        assertFalse(fired[0]);
+        advanceTo(timers, time, 5L + delay);
+        assertTrue(fired[0]);
+    }
+
+    @Test
+    void testFarJump() {
+        var time = new long[] { 100L };
+        var timers = new LevelBurningTimers(() -> time[0]);
+        var near = new FakeStorage(10_000L);
+        var far = new FakeStorage(2_000_000L);
+        var nearFired = new boolean[1];
+        var farFired = new boolean[1];
+        timers.whenBelow(near, 1L, 0L, (s, amount) -> nearFired[0] = true);
+        timers.whenBelow(far, 1L, 0L, (s, amount) -> farFired[0] = true);
+        near.set(0L);
+        far.set(0L);
+
+        // Past due timers fire on the tick jumped to
+        time[0] = 1_000_100L;
+        timers.advance(time[0]);
+        assertTrue(nearFired[0]);
+        assertFalse(farFired[0]);
+
+        advanceTo(timers, time, 2_000_099L);
+        assertFalse(farFired[0]);
+        advanceTo(timers, time, 2_000_100L);
+        assertTrue(farFired[0]);
+    }
+
+    @Test
+    void testReschedule() {
+        var time = new long[] { 0L };
+        var timers = new LevelBurningTimers(() -> time[0]);
+
+        // Still above the threshold when due
+        var idle = new FakeStorage(100L);
+        var idleFired = new boolean[1];
+        timers.whenBelow(idle, 1L, 0L, (s, amount) -> idleFired[0] = true);
+        advanceTo(timers, time, 100L);
+        assertFalse(idleFired[0]);
+        idle.set(0L);
+        advanceTo(timers, time, 199L);
+        assertFalse(idleFired[0]);
+        advanceTo(timers, time, 200L);
+        assertTrue(idleFired[0]);
+
+        // Refilled before due
+        var refilled = new FakeStorage(100L);
+        var refilledFired = new boolean[1];
+        var amounts = new long[] { -1L };
+        timers.whenBelow(refilled, 1L, 0L, (s, amount) -> {
+            refilledFired[0] = true;
+            amounts[0] = amount;
+        });
+        advanceTo(timers, time, 250L);
+        refilled.commit(200L);
+        refilled.set(0L);
+        advanceTo(timers, time, 449L);
+        assertFalse(refilledFired[0]);
+        advanceTo(timers, time, 450L);
+        assertTrue(refilledFired[0]);
+        assertEquals(0L, amounts[0]);
+
+        // Drained before due
+        var drained = new FakeStorage(1000L);
+        var drainedFired = new boolean[1];
+        timers.whenBelow(drained, 1L, 10L, (s, amount) -> drainedFired[0] = true);
+        drained.commit(5L);
+        assertFalse(drainedFired[0]);
+        advanceTo(timers, time, 451L);
+        assertTrue(drainedFired[0]);
+
+        // Not draining, only checked on commits
+        var still = new FakeStorage(1000L);
+        var stillFired = new boolean[1];
+        timers.whenBelow(still, 0L, 10L, (s, amount) -> stillFired[0] = true);
+        still.set(0L);
+        advanceTo(timers, time, 100_000L);
+        assertFalse(stillFired[0]);
+        still.commit(1L);
+        advanceTo(timers, time, 100_001L);
+        assertTrue(stillFired[0]);
+    }
+
+    @Test
+    void testCancelDuringFire() {
+        var time = new long[] { 0L };
+        var timers = new LevelBurningTimers(() -> time[0]);
+        var first = new FakeStorage(0L);
+        var second = new FakeStorage(0L);
+        var secondFired = new boolean[1];
+
+        // Linked last, fired first
+        var cancelled = timers.whenBelow(second, 1L, 0L, (s, amount) -> secondFired[0] = true);
+        var cancelling = timers.whenBelow(first, 1L, 0L, (s, amount) -> cancelled.cancel());
+
+        advanceTo(timers, time, 1L);
+        assertFalse(cancelling.isActive());
+        assertFalse(cancelled.isActive());
+        assertFalse(secondFired[0]);
+        assertEquals(0, second.listeners.length);
+
+        advanceTo(timers, time, 100L);
+        assertFalse(secondFired[0]);
+    }
+
+    @Test
+    void testThrowingAction() {
+        var time = new long[] { 0L };
+        var timers = new LevelBurningTimers(() -> time[0]);
+        var storage = new FakeStorage(0L);
+        var fired = new boolean[1];
+
+        // Linked last, fired first
+        timers.whenBelow(storage, 1L, 0L, (s, amount) -> fired[0] = true);
+        var throwing = timers.whenBelow(storage, 1L, 0L, (s, amount) -> {
+            throw new IllegalStateException();
+        });
+
+        time[0] = 1L;
+        assertDoesNotThrow(() -> timers.advance(1L));
+        assertFalse(throwing.isActive());
+        assertTrue(fired[0]);
+    }
+
+    @Test
+    void testCancelAll() {
+        var time = new long[] { 0L };
+        var timers = new LevelBurningTimers(() -> time[0]);
+        var first = new FakeStorage(100L);
+        var second = new FakeStorage(100L);
+        var firstSubscriptions = new Subscription[] {
+                timers.whenBelow(first, 1L, 0L, (s, amount) -> {
+                }),
+                timers.whenBelow(first, 0L, 0L, (s, amount) -> {
+                }) };
+        var secondFired = new boolean[1];
+        var secondSubscription = timers.whenBelow(second, 1L, 0L, (s, amount) -> secondFired[0] = true);
+
+        timers.cancelAll(first);
+        for (var subscription : firstSubscriptions)
+            assertFalse(subscription.isActive());
+        assertEquals(0, first.listeners.length);
+        assertTrue(secondSubscription.isActive());
+
+        second.set(0L);
+        advanceTo(timers, time, 100L);
+        assertTrue(secondFired[0]);
+
+        var third = timers.whenBelow(second, 0L, 0L, (s, amount) -> {
+        });
+        var fourth = timers.whenBelow(first, 1L, 0L, (s, amount) -> {
+        });
+        timers.cancelAll();
+        assertFalse(third.isActive());
+        assertFalse(fourth.isActive());
+        assertEquals(0, first.listeners.length);
+        assertEquals(0, second.listeners.length);
+    }
+
+    /*
+     * Steps below the far jump threshold, as a ticking level would
+     */
+    private static void advanceTo(LevelBurningTimers timers, long[] time, long target) {
+        while (time[0] < target) {
+            time[0] = Math.min(target, time[0] + 1000L);
+            timers.advance(time[0]);
+        }
+    }
+
+    private static final class FakeStorage implements SingleSlotStorage<FuelVariant>, ListenableBurningStorage {
+
+        private BurningStorageListener[] listeners = BurningListeners.EMPTY;
+
+        private long amount;
+
+        private FakeStorage(long amount) {
+            this.amount = amount;
+        }
+
+        /*
+         * Changes the amount without notifying, like a furnace ticking
+         */
+        private void set(long amount) {
+            this.amount = amount;
+        }
+
+        /*
+         * Changes the amount as if committed
+         */
+        private void commit(long amount) {
+            var oldAmount = this.amount;
+            this.amount = amount;
+            BurningListeners.fire(this.listeners, this, FuelVariant.BLANK, oldAmount, FuelVariant.BLANK, amount);
+        }
+
+        @Override
+        public long insert(FuelVariant resource, long maxAmount, TransactionContext transaction) {
+            return 0L;
+        }
+
+        @Override
+        public long extract(FuelVariant resource, long maxAmount, TransactionContext transaction) {
+            return 0L;
+        }
+
+        @Override
+        public Iterator<StorageView<FuelVariant>> iterator() {
+            return List.<StorageView<FuelVariant>>of(this).iterator();
+        }
+
+        @Override
+        public boolean isResourceBlank() {
+            return true;
+        }
+
+        @Override
+        public FuelVariant getResource() {
+            return FuelVariant.BLANK;
+        }
+
+        @Override
+        public long getAmount() {
+            return this.amount;
+        }
+
+        @Override
+        public long getCapacity() {
+            return Long.MAX_VALUE;
+        }
+
+        @Override
+        public void addListener(BurningStorageListener listener) {
+            this.listeners = BurningListeners.add(this.listeners, listener);
+        }
+
+        @Override
+        public void removeListener(BurningStorageListener listener) {
+            this.listeners = BurningListeners.remove(this.listeners, listener);
+        }
+    }
+}